@@ -0,0 +1,127 @@
+package indi.mofan.benchmark.date;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import indi.mofan.pojo.Event;
+import indi.mofan.pojo.EventWithJodaTime;
+import indi.mofan.pojo.EventWithLocalDate;
+import indi.mofan.pojo.EventWithLocalDateTime;
+import indi.mofan.serializer.BinaryTimestampModule;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON 文本、Smile / CBOR 文本日期与 Smile / CBOR 整数时间戳（BinaryTimestampModule）的吞吐量对比，
+ * 通过 main 方法运行时会先打印各格式的字节数
+ *
+ * @author mofan
+ * @date 2026/10/17 23:05
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BinaryTimestampBenchmark {
+
+    private static final int SIZE = 1_000;
+
+    public enum Format {
+        JSON, SMILE_TEXT, SMILE_EPOCH, CBOR_TEXT, CBOR_EPOCH;
+
+        ObjectMapper mapper() {
+            return switch (this) {
+                case JSON -> JsonMapper.builder().build();
+                case SMILE_TEXT -> SmileMapper.builder().build();
+                case SMILE_EPOCH -> SmileMapper.builder().addModule(new BinaryTimestampModule()).build();
+                case CBOR_TEXT -> CBORMapper.builder().build();
+                case CBOR_EPOCH -> CBORMapper.builder().addModule(new BinaryTimestampModule()).build();
+            };
+        }
+    }
+
+    @Param
+    private Format format;
+
+    private ObjectMapper mapper;
+    private Batch batch;
+    private byte[] bytes;
+
+    @Setup
+    public void setup() throws IOException {
+        mapper = format.mapper();
+        batch = Batch.create(SIZE);
+        bytes = mapper.writeValueAsBytes(batch);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return mapper.writeValueAsBytes(batch);
+    }
+
+    @Benchmark
+    public Batch deserialize() throws IOException {
+        return mapper.readValue(bytes, Batch.class);
+    }
+
+    public static void main(String[] args) throws Exception {
+        Batch batch = Batch.create(SIZE);
+        for (Format format : Format.values()) {
+            System.out.printf("%-12s %,d bytes%n", format, format.mapper().writeValueAsBytes(batch).length);
+        }
+        new Runner(new OptionsBuilder()
+                .include(BinaryTimestampBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+
+    public static class Batch {
+        public List<Event> events = new ArrayList<>();
+        public List<EventWithLocalDate> localDates = new ArrayList<>();
+        public List<EventWithLocalDateTime> localDateTimes = new ArrayList<>();
+
+        /**
+         * EventWithJodaTime 没有反序列化器，只参与序列化
+         */
+        @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+        public List<EventWithJodaTime> jodaTimes = new ArrayList<>();
+
+        static Batch create(int size) {
+            Batch batch = new Batch();
+            LocalDateTime start = LocalDateTime.of(2014, 12, 20, 2, 30);
+            for (int i = 0; i < size; i++) {
+                LocalDateTime dateTime = start.plusMinutes(i);
+                long millis = dateTime.toInstant(ZoneOffset.UTC).toEpochMilli();
+                batch.events.add(new Event("party", new Date(millis)));
+                batch.localDates.add(new EventWithLocalDate("party", dateTime.toLocalDate()));
+                batch.localDateTimes.add(new EventWithLocalDateTime("party", dateTime));
+                batch.jodaTimes.add(new EventWithJodaTime("party", new DateTime(millis, DateTimeZone.UTC)));
+            }
+            return batch;
+        }
+    }
+}
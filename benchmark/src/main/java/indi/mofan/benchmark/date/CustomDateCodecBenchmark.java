@@ -0,0 +1,157 @@
+package indi.mofan.benchmark.date;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import indi.mofan.pojo.EventWithSerializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.io.Serial;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CustomDateSerializer / CustomDateDeserializer 与原先共享 SimpleDateFormat（加锁保证正确性）的实现对比
+ *
+ * @author mofan
+ * @date 2026/10/17 20:40
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CustomDateCodecBenchmark {
+
+    // language=JSON
+    private static final String JSON = """
+            {
+              "name": "party",
+              "eventDate": "20-12-2014 02:30:00"
+            }""";
+
+    private EventWithSerializer event;
+
+    private ObjectWriter codecWriter;
+    private ObjectReader codecReader;
+    private ObjectWriter lockedWriter;
+    private ObjectReader lockedReader;
+
+    @Setup
+    public void setup() throws IOException {
+        JsonMapper codecMapper = JsonMapper.builder().build();
+        codecWriter = codecMapper.writerFor(EventWithSerializer.class);
+        codecReader = codecMapper.readerFor(EventWithSerializer.class);
+        event = codecReader.readValue(JSON);
+
+        JsonMapper lockedMapper = JsonMapper.builder()
+                .addMixIn(EventWithSerializer.class, LockedMixIn.class)
+                .build();
+        lockedWriter = lockedMapper.writerFor(EventWithSerializer.class);
+        lockedReader = lockedMapper.readerFor(EventWithSerializer.class);
+    }
+
+    @Benchmark
+    public String serializeWithCodec() throws IOException {
+        return codecWriter.writeValueAsString(event);
+    }
+
+    @Benchmark
+    public String serializeWithLockedFormat() throws IOException {
+        return lockedWriter.writeValueAsString(event);
+    }
+
+    @Benchmark
+    public EventWithSerializer deserializeWithCodec() throws IOException {
+        return codecReader.readValue(JSON);
+    }
+
+    @Benchmark
+    public EventWithSerializer deserializeWithLockedFormat() throws IOException {
+        return lockedReader.readValue(JSON);
+    }
+
+    public static void main(String[] args) throws Exception {
+        for (int threads : new int[]{1, 8, 32}) {
+            new Runner(new OptionsBuilder()
+                    .include(CustomDateCodecBenchmark.class.getSimpleName())
+                    .threads(threads)
+                    .addProfiler(GCProfiler.class)
+                    .build()).run();
+        }
+    }
+
+    abstract static class LockedMixIn {
+        @JsonSerialize(using = LockedDateSerializer.class)
+        @JsonDeserialize(using = LockedDateDeserializer.class)
+        public Date eventDate;
+    }
+
+    /**
+     * 原先的实现，共享的 SimpleDateFormat 必须加锁才能在多线程下得到正确结果
+     */
+    static final SimpleDateFormat SHARED_FORMAT = new SimpleDateFormat("dd-MM-yyyy hh:mm:ss");
+
+    static class LockedDateSerializer extends StdSerializer<Date> {
+        @Serial
+        private static final long serialVersionUID = 4311529404185567395L;
+
+        public LockedDateSerializer() {
+            super(Date.class);
+        }
+
+        @Override
+        public void serialize(Date value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            String text;
+            synchronized (SHARED_FORMAT) {
+                text = SHARED_FORMAT.format(value);
+            }
+            gen.writeString(text);
+        }
+    }
+
+    static class LockedDateDeserializer extends StdDeserializer<Date> {
+        @Serial
+        private static final long serialVersionUID = -2771823795069880012L;
+
+        public LockedDateDeserializer() {
+            super(Date.class);
+        }
+
+        @Override
+        public Date deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            String text = parser.getText();
+            try {
+                synchronized (SHARED_FORMAT) {
+                    return SHARED_FORMAT.parse(text);
+                }
+            } catch (ParseException e) {
+                throw new RuntimeException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,247 @@
+package indi.mofan.benchmark.date;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.fasterxml.jackson.databind.util.StdDateFormat;
+import com.fasterxml.jackson.datatype.joda.JodaModule;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import indi.mofan.pojo.Event;
+import indi.mofan.pojo.EventWithFormat;
+import indi.mofan.pojo.EventWithJodaTime;
+import indi.mofan.pojo.EventWithLocalDate;
+import indi.mofan.pojo.EventWithLocalDateTime;
+import indi.mofan.pojo.EventWithSerializer;
+import org.joda.time.DateTime;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.text.SimpleDateFormat;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+
+/**
+ * SerializeDateTest / DeserializeDateTest 中各种日期处理方式在同一数据集上的对比，
+ * 通过 main 方法运行时附带 GC profiler，gc.alloc.rate.norm 即每次操作分配的字节数
+ *
+ * @author mofan
+ * @date 2026/10/18 09:30
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DateStrategyBenchmark {
+
+    private static final LocalDateTime START = LocalDateTime.of(2014, 12, 20, 2, 30);
+
+    public enum Strategy {
+        /**
+         * 默认配置，Date 序列化为时间戳
+         */
+        TIMESTAMP(Event.class, i -> new Event("party", date(i))),
+        /**
+         * StdDateFormat，ISO-8601
+         */
+        ISO_8601(Event.class, i -> new Event("party", date(i))) {
+            @Override
+            JsonMapper.Builder configure(JsonMapper.Builder builder) {
+                return builder.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                        .defaultDateFormat(new StdDateFormat().withColonInTimeZone(true));
+            }
+        },
+        /**
+         * ObjectMapper 上配置 SimpleDateFormat
+         */
+        MAPPER_DATE_FORMAT(Event.class, i -> new Event("party", date(i))) {
+            @Override
+            JsonMapper.Builder configure(JsonMapper.Builder builder) {
+                return builder.defaultDateFormat(new SimpleDateFormat("dd-MM-yyyy hh:mm"));
+            }
+        },
+        /**
+         * 属性上的 @JsonFormat
+         */
+        JSON_FORMAT(EventWithFormat.class, i -> new EventWithFormat("party", date(i))),
+        /**
+         * CustomDateSerializer / CustomDateDeserializer
+         */
+        CUSTOM_SERIALIZER(EventWithSerializer.class, i -> new EventWithSerializer("party", date(i))),
+        /**
+         * JodaModule，ISO-8601
+         */
+        JODA_MODULE(EventWithJodaTime.class, i -> new EventWithJodaTime("party", new DateTime(millis(i)))) {
+            @Override
+            JsonMapper.Builder configure(JsonMapper.Builder builder) {
+                return builder.addModule(new JodaModule())
+                        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                        .addMixIn(EventWithJodaTime.class, DefaultSerializerMixIn.class);
+            }
+        },
+        /**
+         * DirectJodaDateTimeSerializer，读取时借助 JodaModule 按同样的格式解析
+         */
+        JODA_CUSTOM_SERIALIZER(EventWithJodaTime.class, i -> new EventWithJodaTime("party", new DateTime(millis(i)))) {
+            @Override
+            JsonMapper.Builder configure(JsonMapper.Builder builder) {
+                return builder.addModule(new JodaModule())
+                        .addMixIn(EventWithJodaTime.class, PatternMixIn.class);
+            }
+        },
+        /**
+         * JavaTimeModule，ISO-8601
+         */
+        JSR310_MODULE(EventWithLocalDateTime.class, i -> new EventWithLocalDateTime("party", START.plusMinutes(i))) {
+            @Override
+            JsonMapper.Builder configure(JsonMapper.Builder builder) {
+                return builder.addModule(new JavaTimeModule())
+                        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                        .addMixIn(EventWithLocalDateTime.class, DefaultSerializerMixIn.class);
+            }
+        },
+        /**
+         * CustomJava8LocalDateTimeSerializer / CustomJava8LocalDateTimeDeserializer
+         */
+        JSR310_CUSTOM_SERIALIZER(EventWithLocalDateTime.class,
+                i -> new EventWithLocalDateTime("party", START.plusMinutes(i))),
+        /**
+         * LocalDateSerializer / LocalDateDeserializer + @JsonFormat
+         */
+        JSR310_JSON_FORMAT(EventWithLocalDate.class,
+                i -> new EventWithLocalDate("party", START.toLocalDate().plusDays(i)));
+
+        private final Class<?> type;
+        private final IntFunction<Object> factory;
+
+        Strategy(Class<?> type, IntFunction<Object> factory) {
+            this.type = type;
+            this.factory = factory;
+        }
+
+        JsonMapper.Builder configure(JsonMapper.Builder builder) {
+            return builder;
+        }
+    }
+
+    public enum Shape {
+        SINGLE, ARRAY_10K, NESTED
+    }
+
+    /**
+     * NESTED 的嵌套层数，最内层放 {@link #NESTED_LEAF_SIZE} 个对象
+     */
+    private static final int NESTED_DEPTH = 64;
+    private static final int NESTED_LEAF_SIZE = 10;
+
+    @Param
+    private Strategy strategy;
+
+    @Param
+    private Shape shape;
+
+    private Object value;
+    private byte[] bytes;
+    private ObjectWriter writer;
+    private ObjectReader reader;
+
+    @Setup
+    public void setup() throws IOException {
+        JsonMapper mapper = strategy.configure(JsonMapper.builder()).build();
+        TypeFactory typeFactory = mapper.getTypeFactory();
+        JavaType type = typeFactory.constructType(strategy.type);
+        switch (shape) {
+            case SINGLE -> value = strategy.factory.apply(0);
+            case ARRAY_10K -> {
+                value = list(10_000);
+                type = typeFactory.constructCollectionType(List.class, type);
+            }
+            case NESTED -> {
+                Object nested = list(NESTED_LEAF_SIZE);
+                type = typeFactory.constructCollectionType(List.class, type);
+                for (int i = 1; i < NESTED_DEPTH; i++) {
+                    nested = List.of(nested);
+                    type = typeFactory.constructCollectionType(List.class, type);
+                }
+                value = nested;
+            }
+        }
+        writer = mapper.writerFor(type);
+        reader = mapper.readerFor(type);
+        bytes = writer.writeValueAsBytes(value);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return writer.writeValueAsBytes(value);
+    }
+
+    @Benchmark
+    public Object deserialize() throws IOException {
+        return reader.readValue(bytes);
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(DateStrategyBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+
+    private List<Object> list(int size) {
+        List<Object> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(strategy.factory.apply(i));
+        }
+        return list;
+    }
+
+    private static long millis(int i) {
+        return START.plusMinutes(i).toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    private static Date date(int i) {
+        return new Date(millis(i));
+    }
+
+    /**
+     * 去掉属性上的自定义序列化器，使用模块提供的默认实现
+     */
+    abstract static class DefaultSerializerMixIn {
+        @JsonSerialize(using = JsonSerializer.None.class)
+        @JsonDeserialize(using = JsonDeserializer.None.class)
+        public Object eventDate;
+    }
+
+    abstract static class PatternMixIn {
+        @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd HH:mm")
+        public Object eventDate;
+    }
+}
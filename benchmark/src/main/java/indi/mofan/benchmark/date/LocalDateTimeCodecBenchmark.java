@@ -0,0 +1,107 @@
+package indi.mofan.benchmark.date;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.deser.LocalDateTimeDeserializer;
+import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateTimeSerializer;
+import indi.mofan.pojo.EventWithLocalDateTime;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 一百万个 EventWithLocalDateTime 下，手写定长编解码与 JSR-310 + DateTimeFormatter 的对比
+ *
+ * @author mofan
+ * @date 2026/10/17 21:50
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class LocalDateTimeCodecBenchmark {
+
+    private static final int SIZE = 1_000_000;
+
+    private static final TypeReference<List<EventWithLocalDateTime>> LIST_TYPE = new TypeReference<>() {
+    };
+
+    private List<EventWithLocalDateTime> events;
+    private byte[] json;
+
+    private ObjectWriter customWriter;
+    private ObjectReader customReader;
+    private ObjectWriter formatterWriter;
+    private ObjectReader formatterReader;
+
+    @Setup
+    public void setup() throws IOException {
+        LocalDateTime start = LocalDateTime.of(2014, 12, 20, 2, 30);
+        events = new ArrayList<>(SIZE);
+        for (int i = 0; i < SIZE; i++) {
+            events.add(new EventWithLocalDateTime("party-" + i, start.plusMinutes(i)));
+        }
+
+        JsonMapper customMapper = JsonMapper.builder().build();
+        customWriter = customMapper.writerFor(LIST_TYPE);
+        customReader = customMapper.readerFor(LIST_TYPE);
+
+        JsonMapper formatterMapper = JsonMapper.builder()
+                .addMixIn(EventWithLocalDateTime.class, FormatterMixIn.class)
+                .build();
+        formatterWriter = formatterMapper.writerFor(LIST_TYPE);
+        formatterReader = formatterMapper.readerFor(LIST_TYPE);
+
+        json = customWriter.writeValueAsBytes(events);
+    }
+
+    @Benchmark
+    public byte[] serializeCustom() throws IOException {
+        return customWriter.writeValueAsBytes(events);
+    }
+
+    @Benchmark
+    public byte[] serializeFormatter() throws IOException {
+        return formatterWriter.writeValueAsBytes(events);
+    }
+
+    @Benchmark
+    public List<EventWithLocalDateTime> deserializeCustom() throws IOException {
+        return customReader.readValue(json);
+    }
+
+    @Benchmark
+    public List<EventWithLocalDateTime> deserializeFormatter() throws IOException {
+        return formatterReader.readValue(json);
+    }
+
+    /**
+     * 同样的格式，走 jackson-datatype-jsr310 的通用路径
+     */
+    abstract static class FormatterMixIn {
+        @JsonSerialize(using = LocalDateTimeSerializer.class)
+        @JsonDeserialize(using = LocalDateTimeDeserializer.class)
+        @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd HH:mm")
+        public LocalDateTime eventDate;
+    }
+}
@@ -0,0 +1,95 @@
+package indi.mofan.benchmark.gson;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import indi.mofan.pojo.ActorGson;
+import indi.mofan.pojo.Movie;
+import indi.mofan.serializer.ActorGsonDeserializer;
+import indi.mofan.serializer.ActorGsonSerializer;
+import indi.mofan.serializer.ActorGsonStreamingDeserializer;
+import indi.mofan.serializer.ActorGsonStreamingSerializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ActorGsonSerializer / ActorGsonDeserializer（JsonObject 树）与 TypeAdapter 流式实现的对比
+ *
+ * @author mofan
+ * @date 2026/10/18 12:20
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ActorGsonAdapterBenchmark {
+
+    @Param({"5000"})
+    private int actors;
+
+    private Movie movie;
+    private String json;
+
+    private Gson treeSerializer;
+    private Gson streamingSerializer;
+    private Gson treeDeserializer;
+    private Gson streamingDeserializer;
+
+    @Setup
+    public void setup() {
+        List<ActorGson> list = new ArrayList<>(actors);
+        StringBuilder builder = new StringBuilder("{\"imdbId\":\"tt0472043\",\"actors\":[");
+        for (int i = 0; i < actors; i++) {
+            list.add(new ActorGson("nm" + i, new Date(401_000_000_000L + i * 86_400_000L),
+                    List.of("Apocalypto", "Beatdown", "Wind Walkers")));
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append("{\"imdbId\":\"nm").append(i)
+                    .append("\",\"dateOfBirth\":\"1982-09-21T12:00:00+01:00\",")
+                    .append("\"filmography\":[\"Apocalypto\",\"Beatdown\",\"Wind Walkers\"]}");
+        }
+        movie = new Movie("tt0472043", "Mel Gibson", list);
+        json = builder.append("]}").toString();
+
+        treeSerializer = new GsonBuilder().registerTypeAdapter(ActorGson.class, new ActorGsonSerializer()).create();
+        streamingSerializer = new GsonBuilder().registerTypeAdapterFactory(new ActorGsonStreamingSerializer()).create();
+        treeDeserializer = new GsonBuilder().registerTypeAdapter(ActorGson.class, new ActorGsonDeserializer()).create();
+        streamingDeserializer = new GsonBuilder().registerTypeAdapterFactory(new ActorGsonStreamingDeserializer()).create();
+    }
+
+    @Benchmark
+    public String serializeTree() {
+        return treeSerializer.toJson(movie);
+    }
+
+    @Benchmark
+    public String serializeStreaming() {
+        return streamingSerializer.toJson(movie);
+    }
+
+    @Benchmark
+    public Movie deserializeTree() {
+        return treeDeserializer.fromJson(json, Movie.class);
+    }
+
+    @Benchmark
+    public Movie deserializeStreaming() {
+        return streamingDeserializer.fromJson(json, Movie.class);
+    }
+}
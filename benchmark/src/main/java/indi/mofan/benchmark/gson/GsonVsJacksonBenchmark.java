@@ -0,0 +1,226 @@
+package indi.mofan.benchmark.gson;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import indi.mofan.pojo.ActorGson;
+import indi.mofan.pojo.GeneratedTypeAdapterFactory;
+import indi.mofan.pojo.Movie;
+import indi.mofan.serializer.ActorGsonDeserializer;
+import indi.mofan.serializer.ActorGsonSerializer;
+import indi.mofan.serializer.ActorGsonStreamingDeserializer;
+import indi.mofan.serializer.ActorGsonStreamingSerializer;
+import indi.mofan.serializer.ActorJacksonDeserializer;
+import indi.mofan.serializer.ActorJacksonSerializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Gson 与 Jackson 在同一个 Movie 上的对比，覆盖默认反射、编译期生成的 TypeAdapter、自定义序列化器 / 反序列化器。
+ * <p>
+ * Throughput 给出吞吐量，SampleTime 给出 p99 等分位延迟，通过 main 方法运行时附带 GC profiler。
+ * 反射模式下反序列化各自序列化出的 JSON，自定义模式下两者读取同一份 ActorGsonDeserializer 所需格式的 JSON。
+ *
+ * @author mofan
+ * @date 2026/10/18 13:30
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgs = {"-Xms4g", "-Xmx4g"})
+public class GsonVsJacksonBenchmark {
+
+    public enum Payload {
+        SMALL(1_000), MB_1(1 << 20), MB_100(100 << 20);
+
+        /**
+         * 目标 JSON 大小（字节）
+         */
+        private final int bytes;
+
+        Payload(int bytes) {
+            this.bytes = bytes;
+        }
+    }
+
+    public enum Engine {
+        GSON_REFLECTION {
+            private final Gson gson = new Gson();
+
+            @Override
+            String write(Movie movie) {
+                return gson.toJson(movie);
+            }
+
+            @Override
+            Movie read(String json) {
+                return gson.fromJson(json, Movie.class);
+            }
+        },
+        GSON_GENERATED {
+            private final Gson gson = new GsonBuilder()
+                    .registerTypeAdapterFactory(new GeneratedTypeAdapterFactory()).create();
+
+            @Override
+            String write(Movie movie) {
+                return gson.toJson(movie);
+            }
+
+            @Override
+            Movie read(String json) {
+                return gson.fromJson(json, Movie.class);
+            }
+        },
+        GSON_TREE_ADAPTER {
+            private final Gson writer = new GsonBuilder()
+                    .registerTypeAdapter(ActorGson.class, new ActorGsonSerializer()).create();
+            private final Gson reader = new GsonBuilder()
+                    .registerTypeAdapter(ActorGson.class, new ActorGsonDeserializer()).create();
+
+            @Override
+            String write(Movie movie) {
+                return writer.toJson(movie);
+            }
+
+            @Override
+            Movie read(String json) {
+                return reader.fromJson(json, Movie.class);
+            }
+        },
+        GSON_STREAMING_ADAPTER {
+            private final Gson writer = new GsonBuilder()
+                    .registerTypeAdapterFactory(new ActorGsonStreamingSerializer()).create();
+            private final Gson reader = new GsonBuilder()
+                    .registerTypeAdapterFactory(new ActorGsonStreamingDeserializer()).create();
+
+            @Override
+            String write(Movie movie) {
+                return writer.toJson(movie);
+            }
+
+            @Override
+            Movie read(String json) {
+                return reader.fromJson(json, Movie.class);
+            }
+        },
+        JACKSON_REFLECTION {
+            private final JsonMapper mapper = JsonMapper.builder().build();
+
+            @Override
+            String write(Movie movie) throws JsonProcessingException {
+                return mapper.writeValueAsString(movie);
+            }
+
+            @Override
+            Movie read(String json) throws JsonProcessingException {
+                return mapper.readValue(json, Movie.class);
+            }
+        },
+        JACKSON_CUSTOM {
+            private final JsonMapper mapper = JsonMapper.builder()
+                    .addModule(new SimpleModule()
+                            .addSerializer(ActorGson.class, new ActorJacksonSerializer())
+                            .addDeserializer(ActorGson.class, new ActorJacksonDeserializer()))
+                    .build();
+
+            @Override
+            String write(Movie movie) throws JsonProcessingException {
+                return mapper.writeValueAsString(movie);
+            }
+
+            @Override
+            Movie read(String json) throws JsonProcessingException {
+                return mapper.readValue(json, Movie.class);
+            }
+        };
+
+        abstract String write(Movie movie) throws Exception;
+
+        abstract Movie read(String json) throws Exception;
+
+        boolean isCustom() {
+            return this == GSON_TREE_ADAPTER || this == GSON_STREAMING_ADAPTER || this == JACKSON_CUSTOM;
+        }
+    }
+
+    @Param
+    private Payload payload;
+
+    @Param
+    private Engine engine;
+
+    private Movie movie;
+    private String json;
+
+    @Setup
+    public void setup() throws Exception {
+        // 按单个 actor 的平均大小估算数量，使 JSON 接近目标大小
+        int perActor = customInput(2).length() - customInput(1).length();
+        int actors = Math.max(1, payload.bytes / perActor);
+        movie = movie(actors);
+        json = engine.isCustom() ? customInput(actors) : engine.write(movie);
+    }
+
+    @Benchmark
+    public String serialize() throws Exception {
+        return engine.write(movie);
+    }
+
+    @Benchmark
+    public Movie deserialize() throws Exception {
+        return engine.read(json);
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(GsonVsJacksonBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+
+    private static Movie movie(int actors) {
+        List<ActorGson> list = new ArrayList<>(actors);
+        for (int i = 0; i < actors; i++) {
+            list.add(new ActorGson("nm" + i, new Date(401_000_000_000L + i * 86_400_000L),
+                    List.of("Apocalypto", "Beatdown", "Wind Walkers")));
+        }
+        return new Movie("tt0472043", "Mel Gibson", list);
+    }
+
+    /**
+     * ActorGsonDeserializer 所需的输入格式
+     */
+    private static String customInput(int actors) {
+        StringBuilder builder = new StringBuilder("{\"imdbId\":\"tt0472043\",\"director\":\"Mel Gibson\",\"actors\":[");
+        for (int i = 0; i < actors; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append("{\"imdbId\":\"nm").append(i)
+                    .append("\",\"dateOfBirth\":\"1982-09-21T12:00:00+01:00\",")
+                    .append("\"filmography\":[\"Apocalypto\",\"Beatdown\",\"Wind Walkers\"]}");
+        }
+        return builder.append("]}").toString();
+    }
+}
@@ -0,0 +1,110 @@
+package indi.mofan.benchmark.mapper;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import indi.mofan.pojo.Car;
+import indi.mofan.serializer.custom.ColumnarListModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 十万辆 Car 下，对象数组与按列字典编码（ColumnarListModule）的对比，
+ * 通过 main 方法运行时会先打印两种格式的字节数
+ *
+ * @author mofan
+ * @date 2026/10/18 18:20
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ColumnarListBenchmark {
+
+    private static final int SIZE = 100_000;
+
+    private static final String[] COLORS = {"Black", "Red", "White", "Silver", "Blue"};
+    private static final String[] TYPES = {"BMW", "FIAT", "Renault", "Toyota"};
+
+    private static final TypeReference<List<Car>> LIST_TYPE = new TypeReference<>() {
+    };
+
+    public enum Format {
+        OBJECT_ARRAY, COLUMNAR;
+
+        JsonMapper mapper() {
+            JsonMapper.Builder builder = JsonMapper.builder();
+            if (this == COLUMNAR) {
+                builder.addModule(new ColumnarListModule(Car.class));
+            }
+            return builder.build();
+        }
+    }
+
+    @Param
+    private Format format;
+
+    private List<Car> cars;
+    private ObjectWriter writer;
+    private ObjectReader reader;
+    private byte[] json;
+
+    @Setup
+    public void setup() throws IOException {
+        cars = cars(SIZE);
+        JsonMapper mapper = format.mapper();
+        writer = mapper.writerFor(LIST_TYPE);
+        reader = mapper.readerFor(LIST_TYPE);
+        json = writer.writeValueAsBytes(cars);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return writer.writeValueAsBytes(cars);
+    }
+
+    @Benchmark
+    public List<Car> deserialize() throws IOException {
+        return reader.readValue(json);
+    }
+
+    public static void main(String[] args) throws Exception {
+        List<Car> cars = cars(SIZE);
+        for (Format format : Format.values()) {
+            System.out.printf("%-12s %,d bytes%n", format,
+                    format.mapper().writerFor(LIST_TYPE).writeValueAsBytes(cars).length);
+        }
+        new Runner(new OptionsBuilder()
+                .include(ColumnarListBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+
+    private static List<Car> cars(int size) {
+        List<Car> cars = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            cars.add(new Car(COLORS[i % COLORS.length], TYPES[(i / 3) % TYPES.length]));
+        }
+        return cars;
+    }
+}
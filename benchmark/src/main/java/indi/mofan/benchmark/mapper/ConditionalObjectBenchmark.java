@@ -0,0 +1,165 @@
+package indi.mofan.benchmark.mapper;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import indi.mofan.serializer.custom.ConditionalObjectModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.io.Serial;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 一万个 Person，按 hiddenPercent 的比例隐藏 Address 时，
+ * CustomSerializeOnlyFieldsTest 中 HidableSerializer + NON_EMPTY 的方式与 ConditionalObjectModule 的对比
+ *
+ * @author mofan
+ * @date 2026/10/18 23:00
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConditionalObjectBenchmark {
+
+    private static final int SIZE = 10_000;
+
+    private static final TypeReference<List<Person>> LIST_TYPE = new TypeReference<>() {
+    };
+
+    @JsonIgnoreProperties("hidden")
+    public interface Hidable {
+        boolean isHidden();
+    }
+
+    public record Address(String street, String city, String country, String zip, boolean hidden) implements Hidable {
+        @Override
+        public boolean isHidden() {
+            return hidden;
+        }
+    }
+
+    public record Person(String name, int age, Address address, Address billing) {
+    }
+
+    public enum Strategy {
+        HIDABLE_SERIALIZER, CONDITIONAL_WRITER;
+
+        JsonMapper mapper() {
+            if (this == CONDITIONAL_WRITER) {
+                return JsonMapper.builder()
+                        .addModule(new ConditionalObjectModule().skipIf(Hidable.class, Hidable::isHidden))
+                        .build();
+            }
+            SimpleModule module = new SimpleModule();
+            module.setSerializerModifier(new BeanSerializerModifier() {
+                @Serial
+                private static final long serialVersionUID = 7416580924471236519L;
+
+                @Override
+                @SuppressWarnings("unchecked")
+                public JsonSerializer<?> modifySerializer(SerializationConfig config,
+                                                          BeanDescription beanDesc,
+                                                          JsonSerializer<?> serializer) {
+                    if (Hidable.class.isAssignableFrom(beanDesc.getBeanClass())) {
+                        return new HidableSerializer((JsonSerializer<Object>) serializer);
+                    }
+                    return serializer;
+                }
+            });
+            return JsonMapper.builder()
+                    .defaultPropertyInclusion(JsonInclude.Value.construct(JsonInclude.Include.NON_EMPTY,
+                            JsonInclude.Include.NON_EMPTY))
+                    .addModule(module)
+                    .build();
+        }
+    }
+
+    static class HidableSerializer extends JsonSerializer<Hidable> {
+        private final JsonSerializer<Object> defaultSerializer;
+
+        HidableSerializer(JsonSerializer<Object> serializer) {
+            defaultSerializer = serializer;
+        }
+
+        @Override
+        public void serialize(Hidable value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            if (value.isHidden()) {
+                return;
+            }
+            defaultSerializer.serialize(value, gen, provider);
+        }
+
+        @Override
+        public boolean isEmpty(SerializerProvider provider, Hidable value) {
+            return value == null || value.isHidden();
+        }
+    }
+
+    @Param
+    private Strategy strategy;
+
+    @Param({"90"})
+    private int hiddenPercent;
+
+    private List<Person> people;
+    private ObjectWriter writer;
+
+    @Setup
+    public void setup() {
+        writer = strategy.mapper().writerFor(LIST_TYPE);
+        people = people(SIZE, hiddenPercent);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return writer.writeValueAsBytes(people);
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(ConditionalObjectBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+
+    private static List<Person> people(int size, int hiddenPercent) {
+        List<Person> people = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            boolean hidden = i % 100 < hiddenPercent;
+            Address address = new Address("street-" + i, "city-" + (i % 50), "country-" + (i % 5),
+                    String.valueOf(10000 + i), hidden);
+            Address billing = new Address("billing-" + i, "city-" + (i % 50), "country-" + (i % 5),
+                    String.valueOf(20000 + i), hidden);
+            people.add(new Person("person-" + i, 20 + i % 50, address, billing));
+        }
+        return people;
+    }
+}
@@ -0,0 +1,145 @@
+package indi.mofan.benchmark.mapper;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonValue;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import indi.mofan.serializer.custom.PerfectHashEnumModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.DayOfWeek;
+import java.time.Month;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 一万条只包含枚举的记录下，默认 EnumDeserializer 与 PerfectHashEnumModule 的对比，
+ * 覆盖 name、@JsonProperty、@JsonValue 三种名字，以及开启 ACCEPT_CASE_INSENSITIVE_ENUMS 后的小写输入
+ *
+ * @author mofan
+ * @date 2026/10/18 19:40
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EnumLookupBenchmark {
+
+    private static final int SIZE = 10_000;
+
+    private static final TypeReference<List<Record>> LIST_TYPE = new TypeReference<>() {
+    };
+
+    public enum Lookup {
+        DEFAULT, PERFECT_HASH
+    }
+
+    public enum Status {
+        @JsonProperty("in-progress")
+        IN_PROGRESS,
+        @JsonProperty("done")
+        DONE,
+        @JsonProperty("cancelled")
+        CANCELLED
+    }
+
+    public enum Level {
+        TRACE("t"), DEBUG("d"), INFO("i"), WARN("w"), ERROR("e");
+
+        private final String code;
+
+        Level(String code) {
+            this.code = code;
+        }
+
+        @JsonValue
+        public String getCode() {
+            return code;
+        }
+    }
+
+    public record Record(Month month, DayOfWeek day, ChronoUnit unit, Status status, Level level) {
+    }
+
+    @Param
+    private Lookup lookup;
+
+    @Param({"false", "true"})
+    private boolean caseInsensitive;
+
+    private ObjectReader reader;
+    private byte[] json;
+
+    @Setup
+    public void setup() {
+        JsonMapper.Builder builder = JsonMapper.builder()
+                .configure(MapperFeature.ACCEPT_CASE_INSENSITIVE_ENUMS, caseInsensitive);
+        if (lookup == Lookup.PERFECT_HASH) {
+            builder.addModule(new PerfectHashEnumModule());
+        }
+        reader = builder.build().readerFor(LIST_TYPE);
+        json = json(SIZE, caseInsensitive);
+    }
+
+    @Benchmark
+    public List<Record> deserialize() throws IOException {
+        return reader.readValue(json);
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(EnumLookupBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+
+    /**
+     * 大小写不敏感时 name 部分写成小写，只能走忽略大小写的匹配
+     */
+    private static byte[] json(int size, boolean lowerCase) {
+        Month[] months = Month.values();
+        DayOfWeek[] days = DayOfWeek.values();
+        ChronoUnit[] units = ChronoUnit.values();
+        String[] statuses = {"in-progress", "done", "cancelled"};
+        Level[] levels = Level.values();
+
+        StringBuilder builder = new StringBuilder(size * 96).append('[');
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append("{\"month\":\"").append(name(months[i % months.length], lowerCase))
+                    .append("\",\"day\":\"").append(name(days[i % days.length], lowerCase))
+                    .append("\",\"unit\":\"").append(name(units[i % units.length], lowerCase))
+                    .append("\",\"status\":\"").append(statuses[i % statuses.length])
+                    .append("\",\"level\":\"").append(levels[i % levels.length].getCode())
+                    .append("\"}");
+        }
+        return builder.append(']').toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String name(Enum<?> value, boolean lowerCase) {
+        return lowerCase ? value.name().toLowerCase(Locale.ROOT) : value.name();
+    }
+}
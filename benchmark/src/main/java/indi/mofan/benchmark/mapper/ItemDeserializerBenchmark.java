@@ -0,0 +1,116 @@
+package indi.mofan.benchmark.mapper;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import indi.mofan.serializer.custom.ItemDeserializer;
+import indi.mofan.serializer.custom.OwnerInterner;
+import indi.mofan.serializer.custom.StreamingItemDeserializer;
+import indi.mofan.serializer.pojo.Item;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 一百万个 Item 组成的数组下，JsonNode 树、逐 token 读取以及按 owner id 共享 User 的对比，
+ * 通过 main 方法运行时附带 GC profiler，gc.alloc.rate.norm 即每次读取整个数组分配的字节数
+ *
+ * @author mofan
+ * @date 2026/10/18 15:30
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class ItemDeserializerBenchmark {
+
+    private static final int SIZE = 1_000_000;
+
+    private static final TypeReference<List<Item>> LIST_TYPE = new TypeReference<>() {
+    };
+
+    public enum Deserializer {
+        TREE(ItemDeserializer::new, false),
+        STREAMING(StreamingItemDeserializer::new, false),
+        /**
+         * 同一次读取中按 owner id 共享 User
+         */
+        STREAMING_INTERNED(StreamingItemDeserializer::new, true);
+
+        private final Supplier<JsonDeserializer<Item>> factory;
+        private final boolean interned;
+
+        Deserializer(Supplier<JsonDeserializer<Item>> factory, boolean interned) {
+            this.factory = factory;
+            this.interned = interned;
+        }
+    }
+
+    @Param
+    private Deserializer deserializer;
+
+    private ObjectReader reader;
+    private byte[] json;
+
+    @Setup
+    public void setup() {
+        reader = JsonMapper.builder()
+                .addModule(new SimpleModule().addDeserializer(Item.class, deserializer.factory.get()))
+                .build()
+                .readerFor(LIST_TYPE)
+                .withAttribute(OwnerInterner.class, deserializer.interned);
+        json = json(SIZE);
+    }
+
+    @Benchmark
+    public List<Item> deserialize() throws IOException {
+        return reader.readValue(json);
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(ItemDeserializerBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+
+    /**
+     * ItemSerializer 输出的格式，每隔一个元素带上一个需要跳过的未知字段
+     */
+    private static byte[] json(int size) {
+        StringBuilder builder = new StringBuilder(size * 64).append('[');
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append("{\"id\":").append(i)
+                    .append(",\"itemName\":\"item-").append(i).append('"');
+            if ((i & 1) == 1) {
+                builder.append(",\"tags\":[\"a\",{\"b\":[1,2]}]");
+            }
+            builder.append(",\"owner\":").append(i % 1_000).append('}');
+        }
+        return builder.append(']').toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,92 @@
+package indi.mofan.benchmark.mapper;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import indi.mofan.serializer.custom.ItemSerializer;
+import indi.mofan.serializer.custom.PreEncodedItemSerializer;
+import indi.mofan.serializer.pojo.Item;
+import indi.mofan.serializer.pojo.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 写入 UTF-8 byte[] 时，String 字段名与预先编码的 SerializableString 字段名的对比
+ *
+ * @author mofan
+ * @date 2026/10/18 17:00
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ItemSerializerBenchmark {
+
+    private static final int SIZE = 10_000;
+
+    private static final TypeReference<List<Item>> LIST_TYPE = new TypeReference<>() {
+    };
+
+    public enum Serializer {
+        PLAIN(ItemSerializer::new),
+        PRE_ENCODED(PreEncodedItemSerializer::new);
+
+        private final Supplier<JsonSerializer<Item>> factory;
+
+        Serializer(Supplier<JsonSerializer<Item>> factory) {
+            this.factory = factory;
+        }
+    }
+
+    @Param
+    private Serializer serializer;
+
+    private ObjectWriter writer;
+    private List<Item> items;
+
+    @Setup
+    public void setup() {
+        writer = JsonMapper.builder()
+                .addModule(new SimpleModule().addSerializer(Item.class, serializer.factory.get()))
+                .build()
+                .writerFor(LIST_TYPE);
+        items = new ArrayList<>(SIZE);
+        for (int i = 0; i < SIZE; i++) {
+            items.add(new Item(i, "item-" + i, new User(i % 1_000, null)));
+        }
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return writer.writeValueAsBytes(items);
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(ItemSerializerBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
@@ -0,0 +1,132 @@
+package indi.mofan.benchmark.mapper;
+
+import com.fasterxml.jackson.annotation.JsonView;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import indi.mofan.serializer.custom.ViewPlanModule;
+import indi.mofan.serializer.pojo.Item;
+import indi.mofan.serializer.pojo.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 一万个 Item（各自带一个 User）交替使用 Public、Internal 两个视图序列化，
+ * 默认 BeanSerializer 与 ViewPlanModule 的对比。视图通过 mix-in 加在 Item、User 上，
+ * 通过 main 方法运行时会先打印 plan 缓存的统计信息
+ *
+ * @author mofan
+ * @date 2026/10/18 22:10
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonViewPlanBenchmark {
+
+    private static final int SIZE = 10_000;
+
+    public static class Views {
+        public static class Public {
+        }
+
+        public static class Internal extends Public {
+        }
+    }
+
+    abstract static class ItemViews {
+        @JsonView(Views.Public.class)
+        public Integer id;
+
+        @JsonView(Views.Public.class)
+        public String itemName;
+
+        @JsonView(Views.Internal.class)
+        public User owner;
+    }
+
+    abstract static class UserViews {
+        @JsonView(Views.Public.class)
+        public Integer id;
+
+        @JsonView(Views.Internal.class)
+        public String name;
+    }
+
+    public enum Serializer {
+        DEFAULT, VIEW_PLAN
+    }
+
+    @Param
+    private Serializer serializer;
+
+    private List<Item> items;
+    private ObjectWriter publicWriter;
+    private ObjectWriter internalWriter;
+
+    @Setup
+    public void setup() {
+        JsonMapper mapper = mapper(serializer == Serializer.VIEW_PLAN ? new ViewPlanModule() : null);
+        publicWriter = mapper.writerWithView(Views.Public.class);
+        internalWriter = mapper.writerWithView(Views.Internal.class);
+        items = items(SIZE);
+    }
+
+    @Benchmark
+    public void alternatingViews(Blackhole blackhole) throws IOException {
+        blackhole.consume(publicWriter.writeValueAsBytes(items));
+        blackhole.consume(internalWriter.writeValueAsBytes(items));
+    }
+
+    public static void main(String[] args) throws Exception {
+        ViewPlanModule module = new ViewPlanModule(true);
+        JsonMapper mapper = mapper(module);
+        List<Item> items = items(SIZE);
+        for (int i = 0; i < 10; i++) {
+            mapper.writerWithView(i % 2 == 0 ? Views.Public.class : Views.Internal.class)
+                    .writeValueAsBytes(items);
+        }
+        System.out.println(module.stats());
+        new Runner(new OptionsBuilder()
+                .include(JsonViewPlanBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+
+    private static JsonMapper mapper(ViewPlanModule module) {
+        JsonMapper.Builder builder = JsonMapper.builder()
+                .addMixIn(Item.class, ItemViews.class)
+                .addMixIn(User.class, UserViews.class);
+        if (module != null) {
+            builder.addModule(module);
+        }
+        return builder.build();
+    }
+
+    private static List<Item> items(int size) {
+        List<Item> items = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            items.add(new Item(i, "item-" + i, new User(i % 100, "user-" + (i % 100))));
+        }
+        return items;
+    }
+}
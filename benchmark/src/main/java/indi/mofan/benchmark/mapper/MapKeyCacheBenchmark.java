@@ -0,0 +1,135 @@
+package indi.mofan.benchmark.mapper;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.KeyDeserializer;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import indi.mofan.serializer.custom.CachingKeyModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 一千个内层 Map、每个内层 Map 使用同一批 64 个组合 key 时，
+ * 普通的 key (反)序列化器与 CachingKeyModule 包装后的对比
+ *
+ * @author mofan
+ * @date 2026/10/18 21:30
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapKeyCacheBenchmark {
+
+    private static final int OUTER_SIZE = 1_000;
+    private static final int KEYS = 64;
+
+    private static final TypeReference<Map<String, Map<Pair, Integer>>> MAP_TYPE = new TypeReference<>() {
+    };
+
+    public enum Keys {
+        PLAIN, CACHED
+    }
+
+    public record Pair(String first, String second) {
+    }
+
+    static class PairKeySerializer extends JsonSerializer<Pair> {
+        @Override
+        public void serialize(Pair value, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+            gen.writeFieldName(value.first() + " and " + value.second());
+        }
+    }
+
+    static class PairKeyDeserializer extends KeyDeserializer {
+        @Override
+        public Pair deserializeKey(String key, DeserializationContext ctxt) {
+            String[] pairs = key.split(" and ");
+            return new Pair(pairs[0], pairs[1]);
+        }
+    }
+
+    @Param
+    private Keys keys;
+
+    private Map<String, Map<Pair, Integer>> value;
+    private ObjectWriter writer;
+    private ObjectReader reader;
+    private byte[] json;
+
+    @Setup
+    public void setup() throws IOException {
+        JsonMapper.Builder builder = JsonMapper.builder()
+                .addModule(new SimpleModule()
+                        .addKeySerializer(Pair.class, new PairKeySerializer())
+                        .addKeyDeserializer(Pair.class, new PairKeyDeserializer()));
+        if (keys == Keys.CACHED) {
+            builder.addModule(new CachingKeyModule(1024, Pair.class));
+        }
+        JsonMapper mapper = builder.build();
+        writer = mapper.writerFor(MAP_TYPE);
+        reader = mapper.readerFor(MAP_TYPE);
+        value = value();
+        json = writer.writeValueAsBytes(value);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return writer.writeValueAsBytes(value);
+    }
+
+    @Benchmark
+    public Map<String, Map<Pair, Integer>> deserialize() throws IOException {
+        return reader.readValue(json);
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(MapKeyCacheBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+
+    private static Map<String, Map<Pair, Integer>> value() {
+        Pair[] pairs = new Pair[KEYS];
+        for (int i = 0; i < KEYS; i++) {
+            pairs[i] = new Pair("first-" + i, "second-" + i);
+        }
+        Map<String, Map<Pair, Integer>> value = new LinkedHashMap<>();
+        for (int i = 0; i < OUTER_SIZE; i++) {
+            Map<Pair, Integer> inner = new LinkedHashMap<>();
+            for (int k = 0; k < KEYS; k++) {
+                // 每次都是新的 key 实例，缓存只能按 equals 命中
+                Pair pair = pairs[k];
+                inner.put(new Pair(pair.first(), pair.second()), i + k);
+            }
+            value.put("row-" + i, inner);
+        }
+        return value;
+    }
+}
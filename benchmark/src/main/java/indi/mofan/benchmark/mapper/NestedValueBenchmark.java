@@ -0,0 +1,146 @@
+package indi.mofan.benchmark.mapper;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import indi.mofan.serializer.custom.JsonPointerModule;
+import indi.mofan.serializer.custom.JsonPointerPath;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.io.Serial;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 一千个嵌套的商品（每个带 20 条无关的评论），MappingNestedValuesTest 中先读 JsonNode 再取值的方式
+ * 与 {@link JsonPointerPath} 流式提取的对比
+ *
+ * @author mofan
+ * @date 2026/10/19 09:40
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NestedValueBenchmark {
+
+    private static final int SIZE = 1_000;
+    private static final int REVIEWS = 20;
+
+    public enum Extractor {
+        TREE, POINTER
+    }
+
+    @JsonDeserialize(using = TreeProductDeserializer.class)
+    public static class TreeProduct {
+        public String id;
+        public String name;
+        public String brandName;
+        public String ownerName;
+    }
+
+    static class TreeProductDeserializer extends StdDeserializer<TreeProduct> {
+        @Serial
+        private static final long serialVersionUID = -2204926457346640393L;
+
+        TreeProductDeserializer() {
+            super(TreeProduct.class);
+        }
+
+        @Override
+        public TreeProduct deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            JsonNode node = p.getCodec().readTree(p);
+            TreeProduct product = new TreeProduct();
+            product.id = node.get("id").textValue();
+            product.name = node.get("name").textValue();
+            product.brandName = node.get("brand").get("name").textValue();
+            product.ownerName = node.get("brand").get("owner").get("name").textValue();
+            return product;
+        }
+    }
+
+    public static class PointerProduct {
+        public String id;
+        public String name;
+        @JsonPointerPath("/brand/name")
+        public String brandName;
+        @JsonPointerPath("/brand/owner/name")
+        public String ownerName;
+    }
+
+    @Param
+    private Extractor extractor;
+
+    private ObjectReader reader;
+    private byte[] json;
+
+    @Setup
+    public void setup() {
+        JsonMapper mapper = JsonMapper.builder()
+                .addModule(new JsonPointerModule())
+                .build();
+        reader = extractor == Extractor.TREE
+                ? mapper.readerFor(new TypeReference<List<TreeProduct>>() {
+        })
+                : mapper.readerFor(new TypeReference<List<PointerProduct>>() {
+        });
+        json = json(SIZE);
+    }
+
+    @Benchmark
+    public List<?> deserialize() throws IOException {
+        return reader.readValue(json);
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(NestedValueBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+
+    private static byte[] json(int size) {
+        StringBuilder builder = new StringBuilder(size * 2048).append('[');
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append("{\"id\":\"product-").append(i).append("\",\"name\":\"Product ").append(i)
+                    .append("\",\"reviews\":[");
+            for (int r = 0; r < REVIEWS; r++) {
+                if (r > 0) {
+                    builder.append(',');
+                }
+                builder.append("{\"user\":{\"id\":").append(r).append(",\"name\":\"user-").append(r)
+                        .append("\"},\"stars\":").append(r % 5 + 1)
+                        .append(",\"text\":\"Lorem ipsum dolor sit amet, consectetur adipiscing elit\"}");
+            }
+            builder.append("],\"brand\":{\"id\":\"brand-").append(i % 10)
+                    .append("\",\"name\":\"ACME Products\",\"owner\":{\"id\":\"owner-").append(i % 3)
+                    .append("\",\"name\":\"Ultimate Corp, Inc.\"}}}");
+        }
+        return builder.append(']').toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,199 @@
+package indi.mofan.benchmark.mapper;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.cfg.MapperBuilder;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import indi.mofan.serializer.custom.JsonPackedBooleans;
+import indi.mofan.serializer.custom.PackedBooleansModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 一万个带 24 个布尔标记的对象，在 JSON 和 Smile 下对比 true/false、逐个字段的 0/1 以及 {@link JsonPackedBooleans} 位掩码，
+ * 通过 main 方法运行时会先打印各组合的字节数
+ *
+ * @author mofan
+ * @date 2026/10/18 20:40
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PackedBooleansBenchmark {
+
+    private static final int SIZE = 10_000;
+
+    private static final TypeReference<List<Flags>> LIST_TYPE = new TypeReference<>() {
+    };
+
+    public enum Format {
+        JSON, SMILE
+    }
+
+    public enum Encoding {
+        /**
+         * 默认的 true/false
+         */
+        BOOLEAN,
+        /**
+         * 逐个字段的 0/1，即 SerializeBooleansAsIntegersTest 中的 @JsonFormat(shape = NUMBER)
+         */
+        PER_FIELD_NUMBER,
+        /**
+         * 所有布尔属性合并成一个整数
+         */
+        PACKED;
+
+        ObjectMapper mapper(Format format) {
+            MapperBuilder<?, ?> builder = format == Format.JSON ? JsonMapper.builder() : SmileMapper.builder();
+            switch (this) {
+                case PER_FIELD_NUMBER -> builder.withConfigOverride(boolean.class,
+                        config -> config.setFormat(JsonFormat.Value.forShape(JsonFormat.Shape.NUMBER)));
+                case PACKED -> builder.addModule(new PackedBooleansModule())
+                        .addMixIn(Flags.class, PackedMixIn.class);
+                default -> {
+                }
+            }
+            return builder.build();
+        }
+    }
+
+    public static class Flags {
+        public long id;
+        public boolean active;
+        public boolean verified;
+        public boolean premium;
+        public boolean banned;
+        public boolean muted;
+        public boolean admin;
+        public boolean moderator;
+        public boolean beta;
+        public boolean newsletter;
+        public boolean twoFactor;
+        public boolean emailConfirmed;
+        public boolean phoneConfirmed;
+        public boolean locked;
+        public boolean archived;
+        public boolean deleted;
+        public boolean hidden;
+        public boolean pinned;
+        public boolean featured;
+        public boolean sponsored;
+        public boolean trial;
+        public boolean autoRenew;
+        public boolean darkMode;
+        public boolean notifications;
+        public boolean analytics;
+
+        static Flags create(int seed) {
+            Flags flags = new Flags();
+            flags.id = seed;
+            flags.active = (seed >>> 0 & 1) == 1;
+            flags.verified = (seed >>> 1 & 1) == 1;
+            flags.premium = (seed >>> 2 & 1) == 1;
+            flags.banned = (seed >>> 3 & 1) == 1;
+            flags.muted = (seed >>> 4 & 1) == 1;
+            flags.admin = (seed >>> 5 & 1) == 1;
+            flags.moderator = (seed >>> 6 & 1) == 1;
+            flags.beta = (seed >>> 7 & 1) == 1;
+            flags.newsletter = (seed >>> 8 & 1) == 1;
+            flags.twoFactor = (seed >>> 9 & 1) == 1;
+            flags.emailConfirmed = (seed >>> 10 & 1) == 1;
+            flags.phoneConfirmed = (seed >>> 11 & 1) == 1;
+            flags.locked = (seed >>> 12 & 1) == 1;
+            flags.archived = (seed >>> 13 & 1) == 1;
+            flags.deleted = (seed >>> 14 & 1) == 1;
+            flags.hidden = (seed >>> 15 & 1) == 1;
+            flags.pinned = (seed >>> 16 & 1) == 1;
+            flags.featured = (seed >>> 17 & 1) == 1;
+            flags.sponsored = (seed >>> 18 & 1) == 1;
+            flags.trial = (seed >>> 19 & 1) == 1;
+            flags.autoRenew = (seed >>> 20 & 1) == 1;
+            flags.darkMode = (seed >>> 21 & 1) == 1;
+            flags.notifications = (seed >>> 22 & 1) == 1;
+            flags.analytics = (seed >>> 23 & 1) == 1;
+            return flags;
+        }
+    }
+
+    @JsonPackedBooleans
+    abstract static class PackedMixIn {
+    }
+
+    @Param
+    private Format format;
+
+    @Param
+    private Encoding encoding;
+
+    private List<Flags> values;
+    private ObjectWriter writer;
+    private ObjectReader reader;
+    private byte[] bytes;
+
+    @Setup
+    public void setup() throws IOException {
+        values = values(SIZE);
+        ObjectMapper mapper = encoding.mapper(format);
+        writer = mapper.writerFor(LIST_TYPE);
+        reader = mapper.readerFor(LIST_TYPE);
+        bytes = writer.writeValueAsBytes(values);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return writer.writeValueAsBytes(values);
+    }
+
+    @Benchmark
+    public List<Flags> deserialize() throws IOException {
+        return reader.readValue(bytes);
+    }
+
+    public static void main(String[] args) throws Exception {
+        List<Flags> values = values(SIZE);
+        for (Format format : Format.values()) {
+            for (Encoding encoding : Encoding.values()) {
+                int size = encoding.mapper(format).writerFor(LIST_TYPE).writeValueAsBytes(values).length;
+                System.out.printf("%-6s %-17s %,d bytes%n", format, encoding, size);
+            }
+        }
+        new Runner(new OptionsBuilder()
+                .include(PackedBooleansBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+
+    private static List<Flags> values(int size) {
+        List<Flags> values = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            // 每个对象的标记组合都不同
+            values.add(Flags.create(i * 0x9E3779B9));
+        }
+        return values;
+    }
+}
@@ -0,0 +1,115 @@
+package indi.mofan.benchmark.mapper;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import indi.mofan.serializer.custom.ParallelArrayReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 一百万个元素（约 70MB）的顶层数组，单线程 readValue 与 {@link ParallelArrayReader} 读取内存和内存映射文件的对比，
+ * threads 为解析使用的线程数
+ *
+ * @author mofan
+ * @date 2026/10/19 10:20
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class ParallelArrayBenchmark {
+
+    private static final int SIZE = 1_000_000;
+
+    public enum Source {
+        SEQUENTIAL, PARALLEL, PARALLEL_MMAP
+    }
+
+    public static class MyDto {
+        public String stringValue;
+        public int intValue;
+        public boolean booleanValue;
+        public double score;
+    }
+
+    @Param
+    private Source source;
+
+    @Param({"1", "4", "16"})
+    private int threads;
+
+    private ObjectReader reader;
+    private ParallelArrayReader<MyDto> parallelReader;
+    private ForkJoinPool pool;
+    private byte[] json;
+    private Path file;
+
+    @Setup
+    public void setup() throws IOException {
+        JsonMapper mapper = JsonMapper.builder().build();
+        reader = mapper.readerForListOf(MyDto.class);
+        pool = new ForkJoinPool(threads);
+        parallelReader = new ParallelArrayReader<>(mapper.readerFor(MyDto.class), 1 << 20, pool);
+        json = json(SIZE);
+        file = Files.write(Files.createTempFile("parallel-array", ".json"), json);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        pool.shutdown();
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public List<MyDto> read() throws IOException {
+        return switch (source) {
+            case SEQUENTIAL -> reader.readValue(json);
+            case PARALLEL -> parallelReader.read(json);
+            case PARALLEL_MMAP -> parallelReader.read(file);
+        };
+    }
+
+    public static void main(String[] args) throws Exception {
+        System.out.printf("json %d MB, %d processors%n", json(SIZE).length >> 20, Runtime.getRuntime().availableProcessors());
+        new Runner(new OptionsBuilder()
+                .include(ParallelArrayBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+
+    private static byte[] json(int size) {
+        StringBuilder builder = new StringBuilder(size * 80).append('[');
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                builder.append(",\n");
+            }
+            builder.append("{\"stringValue\":\"item, [").append(i).append("] \\\"quoted\\\"\",\"intValue\":").append(i)
+                    .append(",\"booleanValue\":").append(i % 2 == 0)
+                    .append(",\"score\":").append(i % 1000 / 8.0).append('}');
+        }
+        return builder.append(']').toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,154 @@
+package indi.mofan.benchmark.mapper;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import indi.mofan.pojo.DoubleList;
+import indi.mofan.pojo.IntList;
+import indi.mofan.pojo.LongList;
+import indi.mofan.serializer.custom.PrimitiveCollectionsModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.ref.Reference;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 一千万个数字的数组，List&lt;Integer&gt; 等包装类型集合与 {@link PrimitiveCollectionsModule} 中基本类型集合的对比。
+ * 通过 main 方法运行时会先打印每种集合读取后常驻内存的大小（GC 后按堆占用估算）
+ *
+ * @author mofan
+ * @date 2026/10/19 10:00
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class PrimitiveCollectionsBenchmark {
+
+    private static final int SIZE = 10_000_000;
+
+    public enum Element {
+        INT, LONG, DOUBLE
+    }
+
+    public enum Container {
+        BOXED, PRIMITIVE
+    }
+
+    @Param
+    private Element element;
+
+    @Param
+    private Container container;
+
+    private ObjectReader reader;
+    private ObjectWriter writer;
+    private byte[] json;
+    private Object values;
+
+    @Setup
+    public void setup() throws IOException {
+        JsonMapper mapper = mapper();
+        JavaType type = type(mapper, element, container);
+        reader = mapper.readerFor(type);
+        writer = mapper.writerFor(type);
+        json = json(element, SIZE);
+        values = reader.readValue(json);
+    }
+
+    @Benchmark
+    public Object deserialize() throws IOException {
+        return reader.readValue(json);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return writer.writeValueAsBytes(values);
+    }
+
+    public static void main(String[] args) throws Exception {
+        JsonMapper mapper = mapper();
+        for (Element element : Element.values()) {
+            byte[] json = json(element, SIZE);
+            System.out.printf("%-6s json %d MB%n", element, json.length >> 20);
+            for (Container container : Container.values()) {
+                ObjectReader reader = mapper.readerFor(type(mapper, element, container));
+                System.out.printf("%-6s %-9s %d MB%n", element, container, retained(reader, json) >> 20);
+            }
+        }
+        new Runner(new OptionsBuilder()
+                .include(PrimitiveCollectionsBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+
+    private static JsonMapper mapper() {
+        return JsonMapper.builder()
+                .addModule(new PrimitiveCollectionsModule())
+                .build();
+    }
+
+    private static JavaType type(JsonMapper mapper, Element element, Container container) {
+        Class<?> type = switch (element) {
+            case INT -> container == Container.BOXED ? Integer.class : IntList.class;
+            case LONG -> container == Container.BOXED ? Long.class : LongList.class;
+            case DOUBLE -> container == Container.BOXED ? Double.class : DoubleList.class;
+        };
+        return container == Container.BOXED
+                ? mapper.getTypeFactory().constructCollectionType(List.class, type)
+                : mapper.constructType(type);
+    }
+
+    private static long retained(ObjectReader reader, byte[] json) throws IOException {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        System.gc();
+        long before = memory.getHeapMemoryUsage().getUsed();
+        Object values = reader.readValue(json);
+        System.gc();
+        long after = memory.getHeapMemoryUsage().getUsed();
+        // 保证 GC 时读取结果仍然可达
+        Reference.reachabilityFence(values);
+        return after - before;
+    }
+
+    /**
+     * 数值超出 Integer 等包装类型的缓存范围，和遥测数据一样每个元素都会装箱成新对象
+     */
+    private static byte[] json(Element element, int size) {
+        SplittableRandom random = new SplittableRandom(42);
+        StringBuilder builder = new StringBuilder(size * 20).append('[');
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            switch (element) {
+                case INT -> builder.append(random.nextInt(1_000, 1_000_000));
+                case LONG -> builder.append(1_700_000_000_000L + random.nextLong(1_000_000_000L));
+                case DOUBLE -> builder.append(Math.round(random.nextDouble(-100, 100) * 1000) / 1000.0);
+            }
+        }
+        return builder.append(']').toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,151 @@
+package indi.mofan.benchmark.mapper;
+
+import com.fasterxml.jackson.annotation.JsonAnyGetter;
+import com.fasterxml.jackson.annotation.JsonAnySetter;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import indi.mofan.pojo.PropertyBag;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 一万个带 5 个动态属性的商品，@JsonAnySetter / @JsonAnyGetter 使用 LinkedHashMap 与 PropertyBag 的对比。
+ * 通过 main 方法运行时会先打印两种容器常驻内存的平均大小（一百万个实例，GC 后按堆占用估算）
+ *
+ * @author mofan
+ * @date 2026/10/18 23:40
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PropertyBagBenchmark {
+
+    private static final int SIZE = 10_000;
+
+    private static final String[] ATTRIBUTES = {"displayAspectRatio", "audioConnector", "weight", "color", "storage"};
+
+    public enum Container {
+        LINKED_HASH_MAP, PROPERTY_BAG
+    }
+
+    public static class ProductWithMap {
+        public String name;
+        public String category;
+
+        @JsonAnySetter
+        @JsonAnyGetter
+        public Map<String, Object> details = new LinkedHashMap<>();
+    }
+
+    public static class ProductWithPropertyBag {
+        public String name;
+        public String category;
+
+        @JsonAnySetter
+        @JsonAnyGetter
+        public PropertyBag details = new PropertyBag();
+    }
+
+    @Param
+    private Container container;
+
+    private ObjectReader reader;
+    private ObjectWriter writer;
+    private byte[] json;
+    private Object products;
+
+    @Setup
+    public void setup() throws IOException {
+        JsonMapper mapper = JsonMapper.builder().build();
+        Class<?> type = container == Container.PROPERTY_BAG ? ProductWithPropertyBag.class : ProductWithMap.class;
+        reader = mapper.readerForListOf(type);
+        writer = mapper.writerFor(mapper.getTypeFactory().constructCollectionType(List.class, type));
+        json = json(SIZE);
+        products = reader.readValue(json);
+    }
+
+    @Benchmark
+    public Object deserialize() throws IOException {
+        return reader.readValue(json);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return writer.writeValueAsBytes(products);
+    }
+
+    public static void main(String[] args) throws Exception {
+        System.out.printf("LinkedHashMap %d bytes/instance%n", retained(LinkedHashMap::new));
+        System.out.printf("PropertyBag   %d bytes/instance%n", retained(PropertyBag::new));
+        new Runner(new OptionsBuilder()
+                .include(PropertyBagBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+
+    /**
+     * 属性名和属性值在所有实例间共享，结果只包含容器自身
+     */
+    private static long retained(Supplier<Map<String, Object>> factory) {
+        int count = 1_000_000;
+        Object[] shared = {"97:3", "none", 180, "black", "256GB"};
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        System.gc();
+        long before = memory.getHeapMemoryUsage().getUsed();
+        List<Map<String, Object>> maps = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Map<String, Object> map = factory.get();
+            for (int a = 0; a < ATTRIBUTES.length; a++) {
+                map.put(ATTRIBUTES[a], shared[a]);
+            }
+            maps.add(map);
+        }
+        System.gc();
+        long after = memory.getHeapMemoryUsage().getUsed();
+        // ArrayList 自身每个元素占一个引用
+        long perInstance = (after - before) / count - 4;
+        maps.clear();
+        return perInstance;
+    }
+
+    private static byte[] json(int size) {
+        StringBuilder builder = new StringBuilder(size * 160).append('[');
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append("{\"name\":\"Pear yPhone ").append(i)
+                    .append("\",\"category\":\"cellphone\",\"displayAspectRatio\":\"97:3\",\"audioConnector\":\"none\"")
+                    .append(",\"weight\":").append(150 + i % 50)
+                    .append(",\"color\":\"black\",\"storage\":\"").append(64 << (i % 3)).append("GB\"}");
+        }
+        return builder.append(']').toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,109 @@
+package indi.mofan.benchmark.mapper;
+
+import com.fasterxml.jackson.annotation.JsonAnySetter;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import indi.mofan.serializer.custom.UnknownPropertyModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 一万个对象，每个除了 3 个已知字段外还有一个较大的未知子树。
+ * 关闭 FAIL_ON_UNKNOWN_PROPERTIES、{@link UnknownPropertyModule} 统计字段名，
+ * 以及把未知属性收集到 @JsonAnySetter Map 中再丢弃的对比
+ *
+ * @author mofan
+ * @date 2026/10/19 10:40
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UnknownPropertyBenchmark {
+
+    private static final int SIZE = 10_000;
+
+    public enum Strategy {
+        IGNORE, DRIFT_METRICS, ANY_SETTER
+    }
+
+    public static class MyDto {
+        public String stringValue;
+        public int intValue;
+        public boolean booleanValue;
+    }
+
+    public static class MyDtoWithAnySetter extends MyDto {
+        @JsonAnySetter
+        public Map<String, Object> unknown = new HashMap<>();
+    }
+
+    @Param
+    private Strategy strategy;
+
+    private ObjectReader reader;
+    private byte[] json;
+
+    @Setup
+    public void setup() {
+        JsonMapper.Builder builder = JsonMapper.builder()
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        if (strategy == Strategy.DRIFT_METRICS) {
+            builder.addModule(new UnknownPropertyModule());
+        }
+        reader = builder.build().readerForListOf(strategy == Strategy.ANY_SETTER ? MyDtoWithAnySetter.class : MyDto.class);
+        json = json(SIZE);
+    }
+
+    @Benchmark
+    public List<MyDto> deserialize() throws IOException {
+        return reader.readValue(json);
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(UnknownPropertyBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+
+    private static byte[] json(int size) {
+        StringBuilder builder = new StringBuilder(size * 400).append('[');
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append("{\"stringValue\":\"value-").append(i)
+                    .append("\",\"legacyId\":\"").append(Long.toHexString(i * 0x9E3779B97F4A7C15L))
+                    .append("\",\"intValue\":").append(i)
+                    .append(",\"audit\":{\"createdBy\":\"importer\",\"createdAt\":").append(1_700_000_000_000L + i)
+                    .append(",\"tags\":[\"alpha\",\"beta\",\"gamma\"],\"scores\":[").append(i % 100 / 3.0)
+                    .append(',').append(i % 7 * 1.5).append("],\"comment\":\"Lorem ipsum dolor sit amet, ")
+                    .append("consectetur adipiscing elit, sed do eiusmod tempor\"}")
+                    .append(",\"booleanValue\":").append(i % 2 == 0).append('}');
+        }
+        return builder.append(']').toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
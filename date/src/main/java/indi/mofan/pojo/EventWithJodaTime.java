@@ -1,7 +1,7 @@
 package indi.mofan.pojo;
 
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
-import indi.mofan.serializer.CustomJodaDateTimeSerializer;
+import indi.mofan.serializer.DirectJodaDateTimeSerializer;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -18,6 +18,6 @@ public class EventWithJodaTime {
 
     public String name;
 
-    @JsonSerialize(using = CustomJodaDateTimeSerializer.class)
+    @JsonSerialize(using = DirectJodaDateTimeSerializer.class)
     public DateTime eventDate;
 }
@@ -1,6 +1,8 @@
 package indi.mofan.pojo;
 
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import indi.mofan.serializer.CustomJava8LocalDateTimeDeserializer;
 import indi.mofan.serializer.CustomJava8LocalDateTimeSerializer;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -19,5 +21,6 @@ public class EventWithLocalDateTime {
     public String name;
 
     @JsonSerialize(using = CustomJava8LocalDateTimeSerializer.class)
+    @JsonDeserialize(using = CustomJava8LocalDateTimeDeserializer.class)
     public LocalDateTime eventDate;
 }
@@ -0,0 +1,278 @@
+package indi.mofan.serializer;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.WritableTypeId;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.PropertyName;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerBuilder;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerModifier;
+import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
+import com.fasterxml.jackson.databind.deser.SettableBeanProperty;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.fasterxml.jackson.databind.ser.impl.PropertySerializerMap;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.dataformat.cbor.CBORGenerator;
+import com.fasterxml.jackson.dataformat.cbor.CBORParser;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.fasterxml.jackson.dataformat.smile.SmileParser;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.joda.time.chrono.ISOChronology;
+
+import java.io.IOException;
+import java.io.Serial;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import java.util.TimeZone;
+
+/**
+ * 使用 Smile 或 CBOR 时，将 Date、LocalDate、LocalDateTime 和 Joda DateTime 类型的属性写成整数时间戳，JSON 等文本格式保持原样。
+ * <p>
+ * Date 写入毫秒时间戳，LocalDateTime 按 UTC 写入毫秒时间戳，LocalDate 写入 epoch day。
+ * 时间戳无法完整表示的值仍按属性原本的方式写出：带有不足一毫秒部分的 LocalDateTime，
+ * 以及时区与 ObjectMapper 配置的时区不同或者不是 ISO 历法的 DateTime。
+ * 反序列化时只有 Smile / CBOR 中的整数按同样的规则还原，DateTime 使用 ObjectMapper 配置的时区，
+ * 其余交给属性原本的反序列化器。
+ * <p>
+ * 属性的 null 值、{@code @JsonInclude} 以及通过 {@code @JsonSerialize} / {@code @JsonDeserialize} 指定的序列化器和反序列化器依旧生效。
+ *
+ * @author mofan
+ * @date 2026/10/17 22:20
+ */
+public class BinaryTimestampModule extends SimpleModule {
+    @Serial
+    private static final long serialVersionUID = -3153725738950498186L;
+
+    private static final Set<Class<?>> SUPPORTED_TYPES = Set.of(
+            Date.class, LocalDate.class, LocalDateTime.class, DateTime.class
+    );
+
+    public BinaryTimestampModule() {
+        super(BinaryTimestampModule.class.getSimpleName());
+        setSerializerModifier(new BeanSerializerModifier() {
+            @Serial
+            private static final long serialVersionUID = 6200163815296004917L;
+
+            @Override
+            public List<BeanPropertyWriter> changeProperties(SerializationConfig config,
+                                                             BeanDescription beanDesc,
+                                                             List<BeanPropertyWriter> beanProperties) {
+                List<BeanPropertyWriter> result = new ArrayList<>(beanProperties.size());
+                for (BeanPropertyWriter writer : beanProperties) {
+                    result.add(isSupported(writer.getType()) ? new EpochPropertyWriter(writer) : writer);
+                }
+                return result;
+            }
+        });
+        setDeserializerModifier(new BeanDeserializerModifier() {
+            @Serial
+            private static final long serialVersionUID = -5961744936462117658L;
+
+            @Override
+            public BeanDeserializerBuilder updateBuilder(DeserializationConfig config,
+                                                         BeanDescription beanDesc,
+                                                         BeanDeserializerBuilder builder) {
+                List<SettableBeanProperty> properties = new ArrayList<>();
+                builder.getProperties().forEachRemaining(properties::add);
+                for (SettableBeanProperty prop : properties) {
+                    if (isSupported(prop.getType())) {
+                        JsonDeserializer<?> delegate = prop.hasValueDeserializer() ? prop.getValueDeserializer() : null;
+                        builder.addOrReplaceProperty(prop.withValueDeserializer(
+                                new EpochDeserializer(prop.getType(), delegate)), true);
+                    }
+                }
+                return builder;
+            }
+        });
+    }
+
+    private static boolean isSupported(JavaType type) {
+        return SUPPORTED_TYPES.contains(type.getRawClass());
+    }
+
+    private static boolean isBinary(JsonGenerator gen) {
+        return gen instanceof SmileGenerator || gen instanceof CBORGenerator;
+    }
+
+    private static boolean isBinary(JsonParser p) {
+        return p instanceof SmileParser || p instanceof CBORParser;
+    }
+
+    /**
+     * value 能否由 {@link #fromEpoch(Class, long, TimeZone)} 从时间戳原样还原
+     */
+    static boolean isExact(Object value, TimeZone zone) {
+        return switch (value) {
+            case LocalDateTime dateTime -> dateTime.getNano() % 1_000_000 == 0;
+            case DateTime dateTime -> dateTime.getChronology() instanceof ISOChronology
+                                      && dateTime.getZone().getID().equals(zone.getID());
+            default -> true;
+        };
+    }
+
+    static long toEpoch(Object value) {
+        return switch (value) {
+            case Date date -> date.getTime();
+            case LocalDate date -> date.toEpochDay();
+            case LocalDateTime dateTime -> dateTime.toInstant(ZoneOffset.UTC).toEpochMilli();
+            case DateTime dateTime -> dateTime.getMillis();
+            default -> throw new IllegalArgumentException("Unsupported type: " + value.getClass());
+        };
+    }
+
+    static Object fromEpoch(Class<?> type, long epoch, TimeZone zone) {
+        if (type == Date.class) {
+            return new Date(epoch);
+        }
+        if (type == LocalDate.class) {
+            return LocalDate.ofEpochDay(epoch);
+        }
+        if (type == LocalDateTime.class) {
+            return LocalDateTime.ofEpochSecond(Math.floorDiv(epoch, 1000L),
+                    (int) Math.floorMod(epoch, 1000L) * 1_000_000, ZoneOffset.UTC);
+        }
+        if (type == DateTime.class) {
+            return new DateTime(epoch, DateTimeZone.forTimeZone(zone));
+        }
+        throw new IllegalArgumentException("Unsupported type: " + type);
+    }
+
+    /**
+     * 把属性的序列化器包装成 {@link EpochSerializer}，null 值、包含规则等仍由 BeanPropertyWriter 处理
+     */
+    static class EpochPropertyWriter extends BeanPropertyWriter {
+        @Serial
+        private static final long serialVersionUID = 3957264095128741127L;
+
+        EpochPropertyWriter(BeanPropertyWriter base) {
+            super(base);
+            // 通过 @JsonSerialize 指定的序列化器在构造 BeanPropertyWriter 时就已确定
+            if (_serializer != null) {
+                _serializer = EpochSerializer.wrap(_serializer);
+            }
+        }
+
+        EpochPropertyWriter(BeanPropertyWriter base, PropertyName name) {
+            super(base, name);
+        }
+
+        @Override
+        protected BeanPropertyWriter _new(PropertyName newName) {
+            return new EpochPropertyWriter(this, newName);
+        }
+
+        @Override
+        public void assignSerializer(JsonSerializer<Object> ser) {
+            super.assignSerializer(EpochSerializer.wrap(ser));
+        }
+
+        /**
+         * Date 不是 final 类，序列化器在运行时按实际类型查找
+         */
+        @Override
+        protected JsonSerializer<Object> _findAndAddDynamic(PropertySerializerMap map, Class<?> type,
+                                                            SerializerProvider provider) throws JsonMappingException {
+            JsonSerializer<Object> serializer = EpochSerializer.wrap(super._findAndAddDynamic(map, type, provider));
+            _dynamicSerializers = map.newWith(type, serializer);
+            return serializer;
+        }
+    }
+
+    /**
+     * 二进制格式下直接写整数，文本格式和无法用时间戳完整表示的值交给原本的序列化器
+     */
+    static class EpochSerializer extends StdSerializer<Object> {
+        @Serial
+        private static final long serialVersionUID = -4310722806385620813L;
+
+        private final JsonSerializer<Object> delegate;
+
+        private EpochSerializer(JsonSerializer<Object> delegate) {
+            super(Object.class);
+            this.delegate = delegate;
+        }
+
+        static JsonSerializer<Object> wrap(JsonSerializer<Object> delegate) {
+            return delegate instanceof EpochSerializer ? delegate : new EpochSerializer(delegate);
+        }
+
+        @Override
+        public void serialize(Object value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            if (isBinary(gen) && isExact(value, provider.getTimeZone())) {
+                gen.writeNumber(toEpoch(value));
+                return;
+            }
+            delegate.serialize(value, gen, provider);
+        }
+
+        @Override
+        public void serializeWithType(Object value, JsonGenerator gen, SerializerProvider provider,
+                                      TypeSerializer typeSer) throws IOException {
+            if (isBinary(gen) && isExact(value, provider.getTimeZone())) {
+                WritableTypeId typeId = typeSer.writeTypePrefix(gen, typeSer.typeId(value, JsonToken.VALUE_NUMBER_INT));
+                gen.writeNumber(toEpoch(value));
+                typeSer.writeTypeSuffix(gen, typeId);
+                return;
+            }
+            delegate.serializeWithType(value, gen, provider, typeSer);
+        }
+
+        @Override
+        public boolean isEmpty(SerializerProvider provider, Object value) {
+            return delegate.isEmpty(provider, value);
+        }
+    }
+
+    /**
+     * Smile / CBOR 中的整数按时间戳还原，其余交给属性原本的反序列化器
+     */
+    static class EpochDeserializer extends StdDeserializer<Object> implements ContextualDeserializer {
+        @Serial
+        private static final long serialVersionUID = -2373302618557693045L;
+
+        private final JavaType type;
+        private final JsonDeserializer<?> delegate;
+
+        EpochDeserializer(JavaType type, JsonDeserializer<?> delegate) {
+            super(type);
+            this.type = type;
+            this.delegate = delegate;
+        }
+
+        @Override
+        public JsonDeserializer<?> createContextual(DeserializationContext ctxt, BeanProperty property) throws JsonMappingException {
+            JsonDeserializer<?> resolved = delegate == null
+                    ? ctxt.findContextualValueDeserializer(type, property)
+                    : ctxt.handlePrimaryContextualization(delegate, property, type);
+            return resolved == delegate ? this : new EpochDeserializer(type, resolved);
+        }
+
+        @Override
+        public Object deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            if (p.hasToken(JsonToken.VALUE_NUMBER_INT) && isBinary(p)) {
+                return fromEpoch(type.getRawClass(), p.getLongValue(), ctxt.getTimeZone());
+            }
+            return delegate.deserialize(p, ctxt);
+        }
+    }
+}
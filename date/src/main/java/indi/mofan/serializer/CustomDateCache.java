@@ -0,0 +1,95 @@
+package indi.mofan.serializer;
+
+import com.fasterxml.jackson.core.JsonParser;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 日期原始字符到时间戳的有界缓存，批量数据中重复的 eventDate 只需解析一次。
+ * <p>
+ * 直接映射、无锁：每个槽位只保存一个不可变的条目，哈希冲突时新条目直接覆盖旧条目（即淘汰）。
+ * <p>
+ * 按需启用，通过 {@code ObjectReader#withAttribute(CustomDateCache.class, cache)} 传给 {@link CustomDateDeserializer}。
+ *
+ * @author mofan
+ * @date 2026/10/17 21:10
+ */
+public final class CustomDateCache {
+
+    private final AtomicReferenceArray<Entry> table;
+    private final int mask;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * @param capacity 最大条目数，向上取整为 2 的幂
+     */
+    public CustomDateCache(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        int size = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.table = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    /**
+     * 查找当前字符串值对应的时间戳，未命中时解析并放入缓存
+     */
+    public long getOrParse(JsonParser parser) throws IOException {
+        char[] buf = parser.getTextCharacters();
+        int offset = parser.getTextOffset();
+        int len = parser.getTextLength();
+
+        int hash = hash(buf, offset, len);
+        int index = hash & mask;
+        Entry entry = table.get(index);
+        if (entry != null && entry.hash == hash
+            && Arrays.equals(entry.key, 0, entry.key.length, buf, offset, offset + len)) {
+            hits.increment();
+            return entry.millis;
+        }
+
+        misses.increment();
+        char[] key = Arrays.copyOfRange(buf, offset, offset + len);
+        long millis = CustomDateCodec.readMillis(parser);
+        table.set(index, new Entry(hash, key, millis));
+        return millis;
+    }
+
+    public long hits() {
+        return hits.sum();
+    }
+
+    public long misses() {
+        return misses.sum();
+    }
+
+    public int capacity() {
+        return table.length();
+    }
+
+    public void clear() {
+        for (int i = 0; i < table.length(); i++) {
+            table.set(i, null);
+        }
+        hits.reset();
+        misses.reset();
+    }
+
+    private static int hash(char[] buf, int offset, int len) {
+        int h = 0;
+        for (int i = offset, end = offset + len; i < end; i++) {
+            h = 31 * h + buf[i];
+        }
+        // 与 HashMap 相同，把高位扩散到低位
+        return h ^ (h >>> 16);
+    }
+
+    private record Entry(int hash, char[] key, long millis) {
+    }
+}
@@ -0,0 +1,187 @@
+package indi.mofan.serializer;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+
+import java.io.IOException;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.TimeZone;
+
+import static indi.mofan.serializer.DateDigits.lengthOfMonth;
+import static indi.mofan.serializer.DateDigits.readTwoDigits;
+import static indi.mofan.serializer.DateDigits.writeTwoDigits;
+
+/**
+ * 线程安全的 "dd-MM-yyyy hh:mm:ss" 编解码器，用于替代多线程共享的 {@link SimpleDateFormat}。
+ * <p>
+ * 定长格式直接在字符数组上读写，不构造中间 String；非定长输入或超出范围的年份才回退到 {@link SimpleDateFormat}。
+ *
+ * @author mofan
+ * @date 2026/10/17 20:05
+ */
+public final class CustomDateCodec {
+
+    public static final String PATTERN = "dd-MM-yyyy hh:mm:ss";
+
+    /**
+     * 解析失败时的返回值
+     */
+    public static final long INVALID = Long.MIN_VALUE;
+
+    private static final int LENGTH = PATTERN.length();
+
+    private static final long MILLIS_PER_SECOND = 1000L;
+    private static final long MILLIS_PER_MINUTE = 60 * MILLIS_PER_SECOND;
+    private static final long MILLIS_PER_HOUR = 60 * MILLIS_PER_MINUTE;
+    private static final long MILLIS_PER_DAY = 24 * MILLIS_PER_HOUR;
+
+    /**
+     * 快速路径按公历推算，1582 年及以前交给 SimpleDateFormat 处理儒略历
+     */
+    private static final int MIN_FAST_YEAR = 1583;
+    private static final int MAX_FAST_YEAR = 9999;
+
+    /**
+     * 与原先 static SimpleDateFormat 一致，类加载时确定时区
+     */
+    private static final TimeZone ZONE = TimeZone.getDefault();
+
+    /**
+     * 仅作为回退路径的原型，使用时克隆，不在线程间共享
+     */
+    private static final SimpleDateFormat PROTOTYPE = new SimpleDateFormat(PATTERN);
+
+    static {
+        PROTOTYPE.setTimeZone(ZONE);
+    }
+
+    private static final ThreadLocal<char[]> BUFFER = ThreadLocal.withInitial(() -> new char[LENGTH]);
+
+    private CustomDateCodec() {
+    }
+
+    public static void write(Date value, JsonGenerator gen) throws IOException {
+        char[] buf = BUFFER.get();
+        if (format(value.getTime(), buf, 0)) {
+            gen.writeString(buf, 0, LENGTH);
+        } else {
+            gen.writeString(fallback().format(value));
+        }
+    }
+
+    public static Date read(JsonParser parser) throws IOException {
+        return new Date(readMillis(parser));
+    }
+
+    public static long readMillis(JsonParser parser) throws IOException {
+        long millis = parse(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+        return millis != INVALID ? millis : parseLenient(parser.getText());
+    }
+
+    /**
+     * 将时间戳按 {@link #PATTERN} 写入 {@code buf[offset, offset + 19)}
+     *
+     * @return 年份超出快速路径范围时返回 {@code false}，此时 buf 内容无意义
+     */
+    public static boolean format(long millis, char[] buf, int offset) {
+        long local = millis + ZONE.getOffset(millis);
+        long epochDay = Math.floorDiv(local, MILLIS_PER_DAY);
+        long millisOfDay = Math.floorMod(local, MILLIS_PER_DAY);
+
+        // 公历日期推算，参考 java.time.LocalDate#ofEpochDay
+        long zeroDay = epochDay + 719468;
+        long era = Math.floorDiv(zeroDay, 146097);
+        long dayOfEra = zeroDay - era * 146097;
+        long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+        long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        long mp = (5 * dayOfYear + 2) / 153;
+        int day = (int) (dayOfYear - (153 * mp + 2) / 5 + 1);
+        int month = (int) (mp < 10 ? mp + 3 : mp - 9);
+        long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+        if (year < MIN_FAST_YEAR || year > MAX_FAST_YEAR) {
+            return false;
+        }
+
+        int hour = (int) (millisOfDay / MILLIS_PER_HOUR);
+        int minute = (int) (millisOfDay / MILLIS_PER_MINUTE % 60);
+        int second = (int) (millisOfDay / MILLIS_PER_SECOND % 60);
+        // hh 为 12 小时制，取值 01-12
+        int hour12 = hour % 12 == 0 ? 12 : hour % 12;
+
+        writeTwoDigits(buf, offset, day);
+        buf[offset + 2] = '-';
+        writeTwoDigits(buf, offset + 3, month);
+        buf[offset + 5] = '-';
+        writeTwoDigits(buf, offset + 6, (int) (year / 100));
+        writeTwoDigits(buf, offset + 8, (int) (year % 100));
+        buf[offset + 10] = ' ';
+        writeTwoDigits(buf, offset + 11, hour12);
+        buf[offset + 13] = ':';
+        writeTwoDigits(buf, offset + 14, minute);
+        buf[offset + 16] = ':';
+        writeTwoDigits(buf, offset + 17, second);
+        return true;
+    }
+
+    /**
+     * 解析 {@code buf[offset, offset + len)} 中的定长日期
+     *
+     * @return 时间戳，格式不符时返回 {@link #INVALID}
+     */
+    public static long parse(char[] buf, int offset, int len) {
+        if (len != LENGTH
+            || buf[offset + 2] != '-' || buf[offset + 5] != '-' || buf[offset + 10] != ' '
+            || buf[offset + 13] != ':' || buf[offset + 16] != ':') {
+            return INVALID;
+        }
+        int day = readTwoDigits(buf, offset);
+        int month = readTwoDigits(buf, offset + 3);
+        int century = readTwoDigits(buf, offset + 6);
+        int yearOfCentury = readTwoDigits(buf, offset + 8);
+        int hour12 = readTwoDigits(buf, offset + 11);
+        int minute = readTwoDigits(buf, offset + 14);
+        int second = readTwoDigits(buf, offset + 17);
+        if ((day | month | century | yearOfCentury | hour12 | minute | second) < 0) {
+            return INVALID;
+        }
+        int year = century * 100 + yearOfCentury;
+        if (year < MIN_FAST_YEAR || month < 1 || month > 12 || day < 1 || day > lengthOfMonth(year, month)
+            || hour12 > 12 || minute > 59 || second > 59) {
+            return INVALID;
+        }
+
+        // 没有 AM/PM 标记，与 SimpleDateFormat 一致按上午处理
+        int hour = hour12 % 12;
+        long local = epochDay(year, month, day) * MILLIS_PER_DAY
+                     + hour * MILLIS_PER_HOUR + minute * MILLIS_PER_MINUTE + second * MILLIS_PER_SECOND;
+        int offsetMillis = ZONE.getOffset(local - ZONE.getRawOffset());
+        long millis = local - offsetMillis;
+        // 夏令时切换附近再校正一次
+        int corrected = ZONE.getOffset(millis);
+        return corrected == offsetMillis ? millis : local - corrected;
+    }
+
+    private static long parseLenient(String text) {
+        try {
+            return fallback().parse(text).getTime();
+        } catch (ParseException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static SimpleDateFormat fallback() {
+        return (SimpleDateFormat) PROTOTYPE.clone();
+    }
+
+    private static long epochDay(int year, int month, int day) {
+        // 参考 java.time.LocalDate#toEpochDay
+        long y = month <= 2 ? year - 1 : year;
+        long era = Math.floorDiv(y, 400);
+        long yearOfEra = y - era * 400;
+        long dayOfYear = (153L * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146097 + dayOfEra - 719468;
+    }
+}
@@ -6,8 +6,6 @@ import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
 
 import java.io.IOException;
 import java.io.Serial;
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
 import java.util.Date;
 
 /**
@@ -18,8 +16,6 @@ public class CustomDateDeserializer extends StdDeserializer<Date> {
     @Serial
     private static final long serialVersionUID = -320752376093398106L;
 
-    private static final SimpleDateFormat FORMATTER = new SimpleDateFormat("dd-MM-yyyy hh:mm:ss");
-
     public CustomDateDeserializer() {
         this(null);
     }
@@ -30,11 +26,10 @@ public class CustomDateDeserializer extends StdDeserializer<Date> {
 
     @Override
     public Date deserialize(JsonParser jsonparser, DeserializationContext context) throws IOException {
-        String date = jsonparser.getText();
-        try {
-            return FORMATTER.parse(date);
-        } catch (ParseException e) {
-            throw new RuntimeException(e);
+        // 通过 ObjectReader#withAttribute 启用缓存
+        if (context.getAttribute(CustomDateCache.class) instanceof CustomDateCache cache) {
+            return new Date(cache.getOrParse(jsonparser));
         }
+        return CustomDateCodec.read(jsonparser);
     }
 }
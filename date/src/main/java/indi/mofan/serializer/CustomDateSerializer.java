@@ -6,7 +6,6 @@ import com.fasterxml.jackson.databind.ser.std.StdSerializer;
 
 import java.io.IOException;
 import java.io.Serial;
-import java.text.SimpleDateFormat;
 import java.util.Date;
 
 /**
@@ -18,8 +17,6 @@ public class CustomDateSerializer extends StdSerializer<Date> {
     @Serial
     private static final long serialVersionUID = -5221028824855331913L;
 
-    private final static SimpleDateFormat FORMAT = new SimpleDateFormat("dd-MM-yyyy hh:mm:ss");
-
     public CustomDateSerializer() {
         this(null);
     }
@@ -30,6 +27,6 @@ public class CustomDateSerializer extends StdSerializer<Date> {
 
     @Override
     public void serialize (Date value, JsonGenerator gen, SerializerProvider arg2) throws IOException {
-        gen.writeString(FORMAT.format(value));
+        CustomDateCodec.write(value, gen);
     }
 }
\ No newline at end of file
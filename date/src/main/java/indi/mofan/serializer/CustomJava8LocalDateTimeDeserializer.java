@@ -0,0 +1,66 @@
+package indi.mofan.serializer;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+
+import java.io.IOException;
+import java.io.Serial;
+import java.time.LocalDateTime;
+
+import static indi.mofan.serializer.DateDigits.lengthOfMonth;
+import static indi.mofan.serializer.DateDigits.readTwoDigits;
+
+/**
+ * 与 {@link CustomJava8LocalDateTimeSerializer} 配对，直接从解析器的字符缓冲区读取 "yyyy-MM-dd HH:mm"
+ *
+ * @author mofan
+ * @date 2026/10/17 21:35
+ */
+public class CustomJava8LocalDateTimeDeserializer extends StdDeserializer<LocalDateTime> {
+    @Serial
+    private static final long serialVersionUID = 2706152291562049374L;
+
+    private static final int LENGTH = CustomJava8LocalDateTimeSerializer.PATTERN.length();
+
+    public CustomJava8LocalDateTimeDeserializer() {
+        this(null);
+    }
+
+    public CustomJava8LocalDateTimeDeserializer(Class<?> vc) {
+        super(vc);
+    }
+
+    @Override
+    public LocalDateTime deserialize(JsonParser jsonParser, DeserializationContext context) throws IOException {
+        LocalDateTime value = parse(jsonParser.getTextCharacters(), jsonParser.getTextOffset(), jsonParser.getTextLength());
+        if (value != null) {
+            return value;
+        }
+        // 不符合定长格式时回退到 DateTimeFormatter，保持原有的解析规则
+        return LocalDateTime.parse(jsonParser.getText(), CustomJava8LocalDateTimeSerializer.FORMATTER);
+    }
+
+    private static LocalDateTime parse(char[] buf, int offset, int len) {
+        if (len != LENGTH || buf[offset + 4] != '-' || buf[offset + 7] != '-'
+            || buf[offset + 10] != ' ' || buf[offset + 13] != ':') {
+            return null;
+        }
+        int century = readTwoDigits(buf, offset);
+        int yearOfCentury = readTwoDigits(buf, offset + 2);
+        int month = readTwoDigits(buf, offset + 5);
+        int day = readTwoDigits(buf, offset + 8);
+        int hour = readTwoDigits(buf, offset + 11);
+        int minute = readTwoDigits(buf, offset + 14);
+        if ((century | yearOfCentury | month | day | hour | minute) < 0) {
+            return null;
+        }
+        int year = century * 100 + yearOfCentury;
+        // 非法日期（如 02-31）和 24 点交给 DateTimeFormatter 按 SMART 规则处理
+        if (year < 1 || month < 1 || month > 12 || day < 1 || day > lengthOfMonth(year, month)
+            || hour > 23 || minute > 59) {
+            return null;
+        }
+        return LocalDateTime.of(year, month, day, hour, minute);
+    }
+}
@@ -9,6 +9,8 @@ import java.io.Serial;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 
+import static indi.mofan.serializer.DateDigits.writeTwoDigits;
+
 /**
  * @author mofan
  * @date 2023/12/11 22:42
@@ -17,7 +19,11 @@ public class CustomJava8LocalDateTimeSerializer extends StdSerializer<LocalDateT
     @Serial
     private static final long serialVersionUID = -5233982302714381302L;
 
-    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+    static final String PATTERN = "yyyy-MM-dd HH:mm";
+
+    static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern(PATTERN);
+
+    private static final ThreadLocal<char[]> BUFFER = ThreadLocal.withInitial(() -> new char[PATTERN.length()]);
 
     public CustomJava8LocalDateTimeSerializer() {
         this(null);
@@ -31,6 +37,23 @@ public class CustomJava8LocalDateTimeSerializer extends StdSerializer<LocalDateT
     public void serialize(LocalDateTime localDateTime,
                           JsonGenerator jsonGenerator,
                           SerializerProvider serializerProvider) throws IOException {
-        jsonGenerator.writeString(FORMATTER.format(localDateTime));
+        int year = localDateTime.getYear();
+        // 四位年份以外的情况（公元前、超过 9999 年）交给 DateTimeFormatter
+        if (year < 1 || year > 9999) {
+            jsonGenerator.writeString(FORMATTER.format(localDateTime));
+            return;
+        }
+        char[] buf = BUFFER.get();
+        writeTwoDigits(buf, 0, year / 100);
+        writeTwoDigits(buf, 2, year % 100);
+        buf[4] = '-';
+        writeTwoDigits(buf, 5, localDateTime.getMonthValue());
+        buf[7] = '-';
+        writeTwoDigits(buf, 8, localDateTime.getDayOfMonth());
+        buf[10] = ' ';
+        writeTwoDigits(buf, 11, localDateTime.getHour());
+        buf[13] = ':';
+        writeTwoDigits(buf, 14, localDateTime.getMinute());
+        jsonGenerator.writeString(buf, 0, buf.length);
     }
 }
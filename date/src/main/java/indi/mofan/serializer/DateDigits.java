@@ -0,0 +1,41 @@
+package indi.mofan.serializer;
+
+/**
+ * 手写的日期编解码器共用的数字读写，调用方负责保证下标不越界
+ *
+ * @author mofan
+ * @date 2026/10/19 11:00
+ */
+final class DateDigits {
+
+    private DateDigits() {
+    }
+
+    static int lengthOfMonth(int year, int month) {
+        return switch (month) {
+            case 2 -> (year % 4 == 0 && (year % 100 != 0 || year % 400 == 0)) ? 29 : 28;
+            case 4, 6, 9, 11 -> 30;
+            default -> 31;
+        };
+    }
+
+    /**
+     * 写入 0 ~ 99 之间的两位数字，不足两位时补 0
+     */
+    static void writeTwoDigits(char[] buf, int offset, int value) {
+        buf[offset] = (char) ('0' + value / 10);
+        buf[offset + 1] = (char) ('0' + value % 10);
+    }
+
+    /**
+     * @return 两位数字的值，包含非数字字符时返回负数
+     */
+    static int readTwoDigits(char[] buf, int offset) {
+        int tens = buf[offset] - '0';
+        int ones = buf[offset + 1] - '0';
+        if (tens < 0 || tens > 9 || ones < 0 || ones > 9) {
+            return -1;
+        }
+        return tens * 10 + ones;
+    }
+}
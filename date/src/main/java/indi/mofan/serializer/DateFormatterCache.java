@@ -0,0 +1,36 @@
+package indi.mofan.serializer;
+
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 按 pattern + 时区 + Locale 缓存不可变的 {@link DateTimeFormatter}，相同组合的属性共用同一个实例
+ *
+ * @author mofan
+ * @date 2026/10/18 10:20
+ */
+public class DateFormatterCache {
+
+    public record Key(String pattern, ZoneId zone, Locale locale) {
+    }
+
+    private final Map<Key, DateTimeFormatter> formatters = new ConcurrentHashMap<>();
+
+    public DateTimeFormatter get(String pattern, ZoneId zone, Locale locale) {
+        return formatters.computeIfAbsent(new Key(pattern, zone, locale),
+                key -> DateTimeFormatter.ofPattern(key.pattern(), key.locale()).withZone(key.zone()));
+    }
+
+    public int size() {
+        return formatters.size();
+    }
+
+    public Set<Key> keys() {
+        return Collections.unmodifiableSet(formatters.keySet());
+    }
+}
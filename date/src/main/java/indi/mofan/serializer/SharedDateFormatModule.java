@@ -0,0 +1,28 @@
+package indi.mofan.serializer;
+
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+import java.io.Serial;
+import java.util.Date;
+
+/**
+ * 注册 {@link SharedDateFormatSerializer}，可通过 {@link #getCache()} 查看去重后的格式化器
+ *
+ * @author mofan
+ * @date 2026/10/18 10:30
+ */
+public class SharedDateFormatModule extends SimpleModule {
+    @Serial
+    private static final long serialVersionUID = -1856018237414396530L;
+
+    private final transient DateFormatterCache cache = new DateFormatterCache();
+
+    public SharedDateFormatModule() {
+        super(SharedDateFormatModule.class.getSimpleName());
+        addSerializer(Date.class, new SharedDateFormatSerializer(cache));
+    }
+
+    public DateFormatterCache getCache() {
+        return cache;
+    }
+}
@@ -0,0 +1,122 @@
+package indi.mofan.serializer;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.std.DateSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.io.Serial;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.util.Date;
+
+/**
+ * 带有 {@code @JsonFormat(pattern = ...)} 的 Date 属性从 {@link DateFormatterCache} 中获取格式化器，
+ * 没有 pattern 的属性仍交给 {@link DateSerializer}。
+ * <p>
+ * {@code @JsonFormat} 的 pattern 是 SimpleDateFormat 的语法，只有 {@link #isCompatible(String)} 认可的 pattern
+ * 在 DateTimeFormatter 下的输出完全一致，才使用共享的格式化器，例如 {@code u} 在两者中分别表示星期和年份，
+ * 单个 {@code S} 在两者中分别表示毫秒和秒的小数部分。其余 pattern 以及 1582 年儒略历与格里历切换之前的日期
+ * 仍由 DateSerializer 按原来的方式格式化。
+ *
+ * @author mofan
+ * @date 2026/10/18 10:25
+ */
+public class SharedDateFormatSerializer extends StdSerializer<Date> implements ContextualSerializer {
+    @Serial
+    private static final long serialVersionUID = 8124766102263389504L;
+
+    /**
+     * 1582-10-15T00:00:00Z，SimpleDateFormat 在此之前使用儒略历，DateTimeFormatter 使用外推的格里历
+     */
+    private static final long GREGORIAN_CUTOVER = -12219292800000L;
+
+    private final transient DateFormatterCache cache;
+
+    private final DateSerializer fallback;
+
+    /**
+     * 不参与 Java 序列化，反序列化后为 null，此时全部交给 fallback
+     */
+    private final transient DateTimeFormatter formatter;
+
+    public SharedDateFormatSerializer(DateFormatterCache cache) {
+        this(cache, DateSerializer.instance, null);
+    }
+
+    private SharedDateFormatSerializer(DateFormatterCache cache, DateSerializer fallback, DateTimeFormatter formatter) {
+        super(Date.class);
+        this.cache = cache;
+        this.fallback = fallback;
+        this.formatter = formatter;
+    }
+
+    @Override
+    public JsonSerializer<?> createContextual(SerializerProvider prov, BeanProperty property) throws JsonMappingException {
+        JsonSerializer<?> contextual = DateSerializer.instance.createContextual(prov, property);
+        JsonFormat.Value format = findFormatOverrides(prov, property, handledType());
+        if (format == null || !format.hasPattern() || !isCompatible(format.getPattern())
+            || !(contextual instanceof DateSerializer dateSerializer)) {
+            return contextual;
+        }
+        DateTimeFormatter shared = cache.get(format.getPattern(),
+                (format.hasTimeZone() ? format.getTimeZone() : prov.getTimeZone()).toZoneId(),
+                format.hasLocale() ? format.getLocale() : prov.getLocale());
+        return new SharedDateFormatSerializer(cache, dateSerializer, shared);
+    }
+
+    @Override
+    public void serialize(Date value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        long time = value.getTime();
+        if (formatter == null || time < GREGORIAN_CUTOVER) {
+            fallback.serialize(value, gen, provider);
+            return;
+        }
+        gen.writeString(formatter.format(Instant.ofEpochMilli(time)));
+    }
+
+    /**
+     * pattern 是否只包含在 SimpleDateFormat 和 DateTimeFormatter 中输出相同的字母及长度：
+     * y、M（最多 4 个）、d、H、h、k、K、m、s（最多 2 个）、SSS、E（最多 4 个）、a、Z（最多 3 个）。
+     * 引号中的文本两者都按原样输出，DateTimeFormatter 保留的 {@code [ ] { } #} 不允许出现在引号之外
+     */
+    public static boolean isCompatible(String pattern) {
+        int length = pattern.length();
+        for (int i = 0; i < length; ) {
+            char c = pattern.charAt(i);
+            if (c == '\'') {
+                int end = pattern.indexOf('\'', i + 1);
+                if (end < 0) {
+                    return false;
+                }
+                i = end + 1;
+                continue;
+            }
+            int count = 1;
+            while (i + count < length && pattern.charAt(i + count) == c) {
+                count++;
+            }
+            i += count;
+            boolean compatible = switch (c) {
+                case 'y' -> true;
+                case 'M', 'E' -> count <= 4;
+                case 'd', 'H', 'h', 'k', 'K', 'm', 's' -> count <= 2;
+                case 'S' -> count == 3;
+                case 'a' -> count == 1;
+                case 'Z' -> count <= 3;
+                case '[', ']', '{', '}', '#' -> false;
+                default -> !Character.isLetter(c);
+            };
+            if (!compatible) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,164 @@
+package indi.mofan;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import indi.mofan.pojo.Event;
+import indi.mofan.pojo.EventWithJodaTime;
+import indi.mofan.pojo.EventWithLocalDate;
+import indi.mofan.pojo.EventWithLocalDateTime;
+import indi.mofan.serializer.BinaryTimestampModule;
+import lombok.SneakyThrows;
+import net.javacrumbs.jsonunit.assertj.JsonAssertions;
+import org.assertj.core.api.WithAssertions;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.joda.time.chrono.BuddhistChronology;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Date;
+import java.util.TimeZone;
+
+/**
+ * @author mofan
+ * @date 2026/10/17 22:45
+ */
+public class BinaryTimestampTest implements WithAssertions {
+
+    private static final LocalDateTime DATE_TIME = LocalDateTime.of(2014, 12, 20, 2, 30);
+    private static final long MILLIS = DATE_TIME.toInstant(ZoneOffset.UTC).toEpochMilli();
+
+    @Test
+    @SneakyThrows
+    public void testWriteEpochWithSmileAndCbor() {
+        for (ObjectMapper mapper : new ObjectMapper[]{
+                SmileMapper.builder().addModule(new BinaryTimestampModule()).build(),
+                CBORMapper.builder().addModule(new BinaryTimestampModule()).build()}) {
+            byte[] bytes = mapper.writeValueAsBytes(new EventWithLocalDateTime("party", DATE_TIME));
+            JsonNode node = mapper.readTree(bytes);
+            assertThat(node.get("eventDate").isIntegralNumber()).isTrue();
+            assertThat(node.get("eventDate").asLong()).isEqualTo(MILLIS);
+            assertThat(mapper.readValue(bytes, EventWithLocalDateTime.class).getEventDate()).isEqualTo(DATE_TIME);
+
+            bytes = mapper.writeValueAsBytes(new EventWithLocalDate("party", DATE_TIME.toLocalDate()));
+            assertThat(mapper.readTree(bytes).get("eventDate").asLong()).isEqualTo(DATE_TIME.toLocalDate().toEpochDay());
+            assertThat(mapper.readValue(bytes, EventWithLocalDate.class).getEventDate()).isEqualTo(DATE_TIME.toLocalDate());
+
+            bytes = mapper.writeValueAsBytes(new Event("party", new Date(MILLIS)));
+            assertThat(mapper.readValue(bytes, Event.class).getEventDate()).isEqualTo(new Date(MILLIS));
+
+            bytes = mapper.writeValueAsBytes(new EventWithJodaTime("party", new DateTime(MILLIS, DateTimeZone.UTC)));
+            assertThat(mapper.readTree(bytes).get("eventDate").asLong()).isEqualTo(MILLIS);
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    public void testJodaDateTimeRoundTrip() {
+        for (TimeZone timeZone : new TimeZone[]{TimeZone.getTimeZone("UTC"), TimeZone.getTimeZone("Asia/Shanghai")}) {
+            SmileMapper mapper = SmileMapper.builder()
+                    .addModule(new BinaryTimestampModule())
+                    .defaultTimeZone(timeZone)
+                    .build();
+            // 与 ObjectMapper 时区相同的 ISO 历法 DateTime 写成时间戳，读取后完全一致
+            DateTime dateTime = new DateTime(MILLIS, DateTimeZone.forTimeZone(timeZone));
+            byte[] bytes = mapper.writeValueAsBytes(new EventWithJodaTime("party", dateTime));
+            assertThat(mapper.readTree(bytes).get("eventDate").asLong()).isEqualTo(MILLIS);
+            DateTime result = mapper.readValue(bytes, EventWithJodaTime.class).getEventDate();
+            assertThat(result).isEqualTo(dateTime);
+            assertThat(result.getZone()).isEqualTo(dateTime.getZone());
+            assertThat(result.getChronology()).isEqualTo(dateTime.getChronology());
+
+            // 时间戳会丢失时区和历法，仍交给原本的序列化器
+            for (DateTime other : new DateTime[]{
+                    dateTime.withZone(DateTimeZone.forID("America/New_York")),
+                    dateTime.withChronology(BuddhistChronology.getInstance(dateTime.getZone()))}) {
+                bytes = mapper.writeValueAsBytes(new EventWithJodaTime("party", other));
+                assertThat(mapper.readTree(bytes).get("eventDate").isTextual()).isTrue();
+            }
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    public void testSubMillisecondLocalDateTimeStaysText() {
+        SmileMapper mapper = SmileMapper.builder().addModule(new BinaryTimestampModule()).build();
+        byte[] bytes = mapper.writeValueAsBytes(new EventWithLocalDateTime("party", DATE_TIME.plusNanos(1_000)));
+        assertThat(mapper.readTree(bytes).get("eventDate").isTextual()).isTrue();
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_DEFAULT)
+    private static class Schedule {
+        public LocalDate start = LocalDate.EPOCH;
+        public Date end;
+    }
+
+    @Test
+    @SneakyThrows
+    public void testInclusionRulesStillApply() {
+        SmileMapper mapper = SmileMapper.builder()
+                .addModule(new JavaTimeModule())
+                .addModule(new BinaryTimestampModule())
+                .build();
+        Schedule schedule = new Schedule();
+        assertThat(mapper.readTree(mapper.writeValueAsBytes(schedule)).isEmpty()).isTrue();
+
+        schedule.start = DATE_TIME.toLocalDate();
+        schedule.end = new Date(MILLIS);
+        JsonNode node = mapper.readTree(mapper.writeValueAsBytes(schedule));
+        assertThat(node.get("start").asLong()).isEqualTo(DATE_TIME.toLocalDate().toEpochDay());
+        assertThat(node.get("end").asLong()).isEqualTo(MILLIS);
+    }
+
+    @Test
+    @SneakyThrows
+    public void testSmileIsSmallerThanText() {
+        EventWithLocalDateTime event = new EventWithLocalDateTime("party", DATE_TIME);
+        byte[] text = SmileMapper.builder().build().writeValueAsBytes(event);
+        byte[] epoch = SmileMapper.builder().addModule(new BinaryTimestampModule()).build().writeValueAsBytes(event);
+        assertThat(epoch.length).isLessThan(text.length);
+    }
+
+    @Test
+    @SneakyThrows
+    public void testJsonStaysText() {
+        JsonMapper mapper = JsonMapper.builder().addModule(new BinaryTimestampModule()).build();
+        String result = mapper.writeValueAsString(new EventWithLocalDateTime("party", DATE_TIME));
+        String expectJson = """
+                {
+                  "name": "party",
+                  "eventDate": "2014-12-20 02:30"
+                }
+                """;
+        JsonAssertions.assertThatJson(result).isEqualTo(expectJson);
+        assertThat(mapper.readValue(result, EventWithLocalDateTime.class).getEventDate()).isEqualTo(DATE_TIME);
+
+        // language=JSON
+        String json = """
+                {
+                  "name": "party",
+                  "eventDate": "20-12-2014"
+                }""";
+        EventWithLocalDate value = mapper.readValue(json, EventWithLocalDate.class);
+        assertThat(value.getEventDate()).isEqualTo(LocalDate.of(2014, 12, 20));
+
+        // JSON 中的整数不按时间戳还原，仍由属性原本的反序列化器处理
+        // language=JSON
+        json = """
+                {
+                  "name": "party",
+                  "eventDate": %d
+                }""".formatted(MILLIS);
+        String finalJson = json;
+        assertThatExceptionOfType(JsonMappingException.class)
+                .isThrownBy(() -> mapper.readValue(finalJson, EventWithLocalDateTime.class));
+    }
+}
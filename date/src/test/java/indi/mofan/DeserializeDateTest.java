@@ -6,16 +6,20 @@ import com.fasterxml.jackson.databind.json.JsonMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import indi.mofan.pojo.Event;
 import indi.mofan.pojo.EventWithLocalDate;
+import indi.mofan.pojo.EventWithLocalDateTime;
 import indi.mofan.pojo.EventWithSerializer;
+import indi.mofan.serializer.CustomDateCache;
 import lombok.SneakyThrows;
 import org.assertj.core.api.WithAssertions;
 import org.junit.jupiter.api.Test;
 
 import java.text.SimpleDateFormat;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.List;
 
 /**
  * @author mofan
@@ -86,6 +90,48 @@ public class DeserializeDateTest implements WithAssertions {
                 .containsExactly("party", "20-12-2014 02:30:00");
     }
 
+    @Test
+    @SneakyThrows
+    public void testCustomDeserializerMatchesSimpleDateFormat() {
+        JsonMapper mapper = JsonMapper.builder().build();
+        SimpleDateFormat df = new SimpleDateFormat("dd-MM-yyyy hh:mm:ss");
+        // 定长格式走快速路径，其余回退到宽松解析
+        List<String> dates = List.of("20-12-2014 02:30:00", "29-02-2024 12:00:00", "01-01-1970 00:00:00",
+                "31-12-1500 11:59:59", "1-1-2014 2:30:00", "31-02-2014 02:30:00");
+        for (String date : dates) {
+            String json = "{\"name\": \"party\", \"eventDate\": \"" + date + "\"}";
+            EventWithSerializer value = mapper.readValue(json, EventWithSerializer.class);
+            assertThat(value.getEventDate()).as(date).isEqualTo(df.parse(date));
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    public void testCustomDeserializerWithCache() {
+        // language=JSON
+        String json = """
+                [
+                  {"name": "a", "eventDate": "20-12-2014 02:30:00"},
+                  {"name": "b", "eventDate": "20-12-2014 02:30:00"},
+                  {"name": "c", "eventDate": "21-12-2014 02:30:00"},
+                  {"name": "d", "eventDate": "20-12-2014 02:30:00"}
+                ]""";
+        SimpleDateFormat df = new SimpleDateFormat("dd-MM-yyyy hh:mm:ss");
+        CustomDateCache cache = new CustomDateCache(16);
+
+        JsonMapper mapper = JsonMapper.builder().build();
+        EventWithSerializer[] events = mapper.readerFor(EventWithSerializer[].class)
+                .withAttribute(CustomDateCache.class, cache)
+                .readValue(json);
+        assertThat(events).extracting(i -> df.format(i.getEventDate()))
+                .containsExactly("20-12-2014 02:30:00", "20-12-2014 02:30:00",
+                        "21-12-2014 02:30:00", "20-12-2014 02:30:00");
+        // 每次返回的都是新的 Date 对象
+        assertThat(events[0].getEventDate()).isNotSameAs(events[1].getEventDate());
+        assertThat(cache).extracting(CustomDateCache::hits, CustomDateCache::misses)
+                .containsExactly(2L, 2L);
+    }
+
     @Test
     @SneakyThrows
     public void testDeserializeSingleDateObject() {
@@ -99,6 +145,27 @@ public class DeserializeDateTest implements WithAssertions {
         assertThat(localDate).isEqualTo(LocalDate.of(2014, 12, 20));
     }
     
+    @Test
+    @SneakyThrows
+    public void testDeserializeLocalDateTimeWithCustomDeserializer() {
+        JsonMapper mapper = JsonMapper.builder().build();
+        EventWithLocalDateTime event = new EventWithLocalDateTime("party", LocalDateTime.of(2014, 12, 20, 2, 30));
+        String json = mapper.writeValueAsString(event);
+        EventWithLocalDateTime value = mapper.readValue(json, EventWithLocalDateTime.class);
+        assertThat(value).extracting(EventWithLocalDateTime::getName, EventWithLocalDateTime::getEventDate)
+                .containsExactly("party", LocalDateTime.of(2014, 12, 20, 2, 30));
+
+        // 非法日期回退到 DateTimeFormatter，按 SMART 规则取当月最后一天
+        // language=JSON
+        json = """
+                {
+                  "name": "party",
+                  "eventDate": "2014-02-31 02:30"
+                }""";
+        value = mapper.readValue(json, EventWithLocalDateTime.class);
+        assertThat(value.getEventDate()).isEqualTo(LocalDateTime.of(2014, 2, 28, 2, 30));
+    }
+
     @Test
     @SneakyThrows
     public void testDeserializeLocalDateWithoutJavaTimeModule() {
@@ -1,6 +1,8 @@
 package indi.mofan;
 
+import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.fasterxml.jackson.databind.json.JsonMapper;
 import com.fasterxml.jackson.databind.util.StdDateFormat;
 import com.fasterxml.jackson.datatype.joda.JodaModule;
@@ -10,17 +12,29 @@ import indi.mofan.pojo.EventWithFormat;
 import indi.mofan.pojo.EventWithJodaTime;
 import indi.mofan.pojo.EventWithLocalDateTime;
 import indi.mofan.pojo.EventWithSerializer;
+import indi.mofan.serializer.CustomDateCodec;
+import indi.mofan.serializer.CustomJodaDateTimeSerializer;
+import indi.mofan.serializer.DateFormatterCache;
+import indi.mofan.serializer.SharedDateFormatModule;
 import lombok.SneakyThrows;
 import net.javacrumbs.jsonunit.assertj.JsonAssertions;
 import org.assertj.core.api.WithAssertions;
+import org.joda.time.Chronology;
 import org.joda.time.DateTime;
 import org.joda.time.DateTimeZone;
+import org.joda.time.chrono.BuddhistChronology;
+import org.joda.time.chrono.GJChronology;
+import org.joda.time.chrono.ISOChronology;
 import org.junit.jupiter.api.Test;
 
 import java.text.SimpleDateFormat;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.Date;
+import java.util.List;
+import java.util.SplittableRandom;
 import java.util.TimeZone;
+import java.util.stream.IntStream;
 
 /**
  * @author mofan
@@ -115,6 +129,93 @@ public class SerializeDateTest implements WithAssertions {
         JsonAssertions.assertThatJson(result).isEqualTo(expectJson);
     }
 
+    private static class Meeting {
+        @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "dd-MM-yyyy hh:mm:ss")
+        public Date startDate;
+        @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "dd-MM-yyyy hh:mm:ss")
+        public Date endDate;
+        @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "dd-MM-yyyy hh:mm:ss", timezone = "Asia/Shanghai")
+        public Date localDate;
+        public Date createdDate;
+    }
+
+    @Test
+    @SneakyThrows
+    public void testSharedDateFormatModule() {
+        Date date = FORMAT.parse("20-12-2014 02:30");
+        SharedDateFormatModule module = new SharedDateFormatModule();
+        JsonMapper mapper = JsonMapper.builder()
+                .addModule(module)
+                .build();
+
+        String result = mapper.writeValueAsString(new EventWithFormat("party", date));
+        JsonAssertions.assertThatJson(result).isEqualTo("""
+                {
+                  "name": "party",
+                  "eventDate": "20-12-2014 02:30:00"
+                }
+                """);
+
+        Meeting meeting = new Meeting();
+        meeting.startDate = meeting.endDate = meeting.localDate = meeting.createdDate = date;
+        result = mapper.writeValueAsString(meeting);
+        JsonAssertions.assertThatJson(result).isEqualTo("""
+                {
+                  "startDate": "20-12-2014 02:30:00",
+                  "endDate": "20-12-2014 02:30:00",
+                  "localDate": "20-12-2014 10:30:00",
+                  "createdDate": 1419042600000
+                }
+                """);
+        // 三个属性使用同样的 pattern 和时区，共用同一个格式化器
+        assertThat(module.getCache().size()).isEqualTo(2);
+        assertThat(module.getCache().keys())
+                .extracting(DateFormatterCache.Key::zone)
+                .containsExactlyInAnyOrder(ZoneId.of("UTC"), ZoneId.of("Asia/Shanghai"));
+    }
+
+    private static class Appointment {
+        @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd u")
+        public Date dayOfWeek;
+        @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "HH:mm:ss.S")
+        public Date millis;
+        @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd aa")
+        public Date rejectedByFormatter;
+        @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd HH:mm:ss.SSS Z")
+        public Date shared;
+        @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd")
+        public Date julian;
+    }
+
+    @Test
+    @SneakyThrows
+    public void testSharedDateFormatModuleKeepsSimpleDateFormatSemantics() {
+        Appointment appointment = new Appointment();
+        appointment.dayOfWeek = appointment.millis = appointment.rejectedByFormatter = appointment.shared
+                = FORMAT.parse("20-12-2014 02:30");
+        appointment.millis = new Date(appointment.millis.getTime() + 7);
+        // 1582 年之前 SimpleDateFormat 使用儒略历
+        appointment.julian = FORMAT.parse("01-01-1500 00:00");
+
+        SharedDateFormatModule module = new SharedDateFormatModule();
+        String result = JsonMapper.builder().addModule(module).build().writeValueAsString(appointment);
+        JsonAssertions.assertThatJson(result)
+                .isEqualTo(JsonMapper.builder().build().writeValueAsString(appointment));
+        JsonAssertions.assertThatJson(result).isEqualTo("""
+                {
+                  "dayOfWeek": "2014-12-20 6",
+                  "millis": "02:30:00.7",
+                  "rejectedByFormatter": "2014-12-20 AM",
+                  "shared": "2014-12-20 02:30:00.000 +0000",
+                  "julian": "1500-01-01"
+                }
+                """);
+        // 只有兼容的 pattern 进入缓存
+        assertThat(module.getCache().keys())
+                .extracting(DateFormatterCache.Key::pattern)
+                .containsExactlyInAnyOrder("yyyy-MM-dd HH:mm:ss.SSS Z", "yyyy-MM-dd");
+    }
+
     @Test
     @SneakyThrows
     public void testCustomDateSerializer() {
@@ -133,6 +234,35 @@ public class SerializeDateTest implements WithAssertions {
         JsonAssertions.assertThatJson(result).isEqualTo(expectJson);
     }
 
+    @Test
+    @SneakyThrows
+    public void testCustomDateSerializerIsThreadSafe() {
+        JsonMapper mapper = JsonMapper.builder().build();
+        // 覆盖 1583 年前后的回退路径
+        long min = FORMAT.parse("01-01-1500 00:00").getTime();
+        long max = FORMAT.parse("31-12-2200 23:59").getTime();
+
+        // 固定种子，失败时可以复现
+        SplittableRandom random = new SplittableRandom(20141220L);
+        List<Date> dates = IntStream.range(0, 20_000)
+                .mapToObj(i -> new Date(random.nextLong(min, max)))
+                .toList();
+
+        List<String> mismatches = dates.parallelStream()
+                .filter(date -> {
+                    String expect = new SimpleDateFormat(CustomDateCodec.PATTERN).format(date);
+                    try {
+                        return !mapper.writeValueAsString(new EventWithSerializer("party", date))
+                                .contains("\"" + expect + "\"");
+                    } catch (Exception e) {
+                        return true;
+                    }
+                })
+                .map(Date::toString)
+                .toList();
+        assertThat(mismatches).isEmpty();
+    }
+
     @Test
     @SneakyThrows
     public void testSerializeJodaTime() {
@@ -166,6 +296,36 @@ public class SerializeDateTest implements WithAssertions {
         JsonAssertions.assertThatJson(result).isEqualTo(expectJson);
     }
 
+    @Test
+    @SneakyThrows
+    public void testDirectJodaSerializerMatchesFormatter() {
+        JsonMapper formatter = JsonMapper.builder()
+                .addMixIn(EventWithJodaTime.class, JodaFormatterMixIn.class)
+                .build();
+        JsonMapper direct = JsonMapper.builder().build();
+
+        List<Chronology> chronologies = List.of(
+                ISOChronology.getInstanceUTC(),
+                ISOChronology.getInstance(DateTimeZone.forID("Asia/Shanghai")),
+                ISOChronology.getInstance(DateTimeZone.forID("America/St_Johns")),
+                GJChronology.getInstance(DateTimeZone.forID("Europe/London")),
+                BuddhistChronology.getInstance(DateTimeZone.forID("Asia/Bangkok")));
+        SplittableRandom random = new SplittableRandom(20141220L);
+        for (Chronology chronology : chronologies) {
+            for (int i = 0; i < 1_000; i++) {
+                DateTime date = new DateTime(random.nextLong(-70_000_000_000_000L, 300_000_000_000_000L), chronology);
+                EventWithJodaTime event = new EventWithJodaTime("party", date);
+                assertThat(direct.writeValueAsBytes(event)).as(date.toString())
+                        .isEqualTo(formatter.writeValueAsBytes(event));
+            }
+        }
+    }
+
+    private static abstract class JodaFormatterMixIn {
+        @JsonSerialize(using = CustomJodaDateTimeSerializer.class)
+        public DateTime eventDate;
+    }
+
     @Test
     @SneakyThrows
     public void testSerializeJava8Date() {
@@ -0,0 +1,19 @@
+package indi.mofan.processor;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 编译期为被标记的类生成 Gson TypeAdapter，同一个包下的类共用一个 GeneratedTypeAdapterFactory。
+ * <p>
+ * 被标记的类需要无参构造器，以及每个字段对应的 getter / setter（如 Lombok 的 @Getter、@Setter）。
+ *
+ * @author mofan
+ * @date 2026/10/18 14:10
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.SOURCE)
+public @interface GenerateTypeAdapter {
+}
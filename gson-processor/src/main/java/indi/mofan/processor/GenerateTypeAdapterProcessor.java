@@ -0,0 +1,461 @@
+package indi.mofan.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 为 {@link GenerateTypeAdapter} 标记的类生成 {@code <类名>TypeAdapter}，并为每个包生成一个 GeneratedTypeAdapterFactory。
+ * <p>
+ * 生成的代码通过类型中实际存在的 getter / setter 读写字段。@SerializedName 的 value 和 alternate、
+ * @Expose 的 serialize 和 deserialize 都在编译期读取并生成为常量，运行时只通过 Gson 的公开 API 处理两种配置：
+ * 没有 @SerializedName 的字段在配置了非默认的 FieldNamingStrategy 时才查找一次 Field 计算字段名；
+ * 工厂检测到 excludeFieldsWithoutExposeAnnotation() 时按 @Expose 的常量排除字段。
+ * <p>
+ * 不支持 @Since / @Until、自定义的 ExclusionStrategy 和 excludeFieldsWithModifiers()，
+ * static 和 transient 字段在编译期就被跳过。
+ * <p>
+ * 工厂需要列出包中所有的类型，因此等到某一轮不再出现新的被标记类型后才生成。
+ *
+ * @author mofan
+ * @date 2026/10/18 14:20
+ */
+@SupportedAnnotationTypes("indi.mofan.processor.GenerateTypeAdapter")
+public class GenerateTypeAdapterProcessor extends AbstractProcessor {
+
+    private static final String SERIALIZED_NAME = "com.google.gson.annotations.SerializedName";
+
+    private static final String EXPOSE = "com.google.gson.annotations.Expose";
+
+    private static final String FACTORY_NAME = "GeneratedTypeAdapterFactory";
+
+    /**
+     * 已生成适配器、还没有生成工厂的类型，按包分组
+     */
+    private final Map<String, List<TypeElement>> pending = new LinkedHashMap<>();
+    private final Set<String> generatedFactories = new HashSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        boolean found = false;
+        try {
+            for (Element element : roundEnv.getElementsAnnotatedWith(GenerateTypeAdapter.class)) {
+                if (element.getKind() != ElementKind.CLASS) {
+                    error(element, "@GenerateTypeAdapter can only be applied to classes");
+                    continue;
+                }
+                TypeElement type = (TypeElement) element;
+                String packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+                if (generatedFactories.contains(packageName)) {
+                    error(element, "@GenerateTypeAdapter class appeared after " + packageName + "." + FACTORY_NAME
+                                   + " was generated in an earlier round");
+                    continue;
+                }
+                writeAdapter(packageName, type);
+                pending.computeIfAbsent(packageName, k -> new ArrayList<>()).add(type);
+                found = true;
+            }
+            // 后续轮次中（例如其他注解处理器生成的类）可能还有同一个包下的类型，同名的工厂只能创建一次
+            if ((!found || roundEnv.processingOver()) && !pending.isEmpty()) {
+                for (Map.Entry<String, List<TypeElement>> entry : pending.entrySet()) {
+                    writeFactory(entry.getKey(), entry.getValue());
+                    generatedFactories.add(entry.getKey());
+                }
+                pending.clear();
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Failed to generate TypeAdapter: " + e);
+        }
+        return true;
+    }
+
+    /**
+     * 单个字段在编译期确定下来的信息，getter / setter 是类型中实际存在的方法名
+     */
+    private record Property(String declaringType, String fieldName, List<String> serializedNames,
+                            boolean exposeSerialize, boolean exposeDeserialize, TypeMirror type,
+                            String getter, String setter) {
+
+        boolean isString() {
+            return "java.lang.String".equals(type.toString());
+        }
+
+        String adapterField() {
+            return fieldName + "Adapter";
+        }
+    }
+
+    private List<Property> properties(TypeElement type) {
+        List<ExecutableElement> methods = ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(type));
+        List<Property> properties = new ArrayList<>();
+        // 与 Gson 的 ReflectiveTypeAdapterFactory 相同，先子类后父类
+        TypeElement current = type;
+        while (current != null && !current.getQualifiedName().toString().startsWith("java.")) {
+            for (VariableElement field : ElementFilter.fieldsIn(current.getEnclosedElements())) {
+                Set<Modifier> modifiers = field.getModifiers();
+                if (modifiers.contains(Modifier.STATIC) || modifiers.contains(Modifier.TRANSIENT)) {
+                    continue;
+                }
+                // @SerializedName 的 value 和 alternate，没有时在运行时通过 FieldNamingStrategy 计算
+                List<String> serializedNames = new ArrayList<>();
+                // 没有 @Expose 时，开启 excludeFieldsWithoutExposeAnnotation() 后两个方向都排除
+                boolean exposeSerialize = false;
+                boolean exposeDeserialize = false;
+                for (AnnotationMirror mirror : field.getAnnotationMirrors()) {
+                    String annotation = mirror.getAnnotationType().toString();
+                    if (SERIALIZED_NAME.equals(annotation)) {
+                        serializedNames.add(String.valueOf(value(mirror, "value").getValue()));
+                        @SuppressWarnings("unchecked")
+                        List<? extends AnnotationValue> alternates = (List<? extends AnnotationValue>) value(mirror, "alternate").getValue();
+                        alternates.forEach(alternate -> serializedNames.add(String.valueOf(alternate.getValue())));
+                    } else if (EXPOSE.equals(annotation)) {
+                        exposeSerialize = (Boolean) value(mirror, "serialize").getValue();
+                        exposeDeserialize = (Boolean) value(mirror, "deserialize").getValue();
+                    }
+                }
+                String getter = accessor(methods, field, 0, getterNames(field));
+                String setter = accessor(methods, field, 1, setterNames(field));
+                if (getter == null || setter == null) {
+                    continue;
+                }
+                properties.add(new Property(current.getQualifiedName().toString(), field.getSimpleName().toString(),
+                        serializedNames, exposeSerialize, exposeDeserialize, field.asType(), getter, setter));
+            }
+            TypeMirror superclass = current.getSuperclass();
+            current = superclass.getKind() == TypeKind.DECLARED
+                    ? (TypeElement) ((DeclaredType) superclass).asElement() : null;
+        }
+        return properties;
+    }
+
+    /**
+     * 候选的 getter 名称。布尔字段本身以 is 开头时（如 isActive），Lombok 生成的 getter 就是字段名
+     */
+    private static List<String> getterNames(VariableElement field) {
+        String name = field.getSimpleName().toString();
+        List<String> names = new ArrayList<>();
+        if (field.asType().getKind() == TypeKind.BOOLEAN) {
+            if (hasIsPrefix(name)) {
+                names.add(name);
+            }
+            names.add("is" + capitalize(name));
+        }
+        names.add("get" + capitalize(name));
+        return names;
+    }
+
+    private static List<String> setterNames(VariableElement field) {
+        String name = field.getSimpleName().toString();
+        List<String> names = new ArrayList<>();
+        if (field.asType().getKind() == TypeKind.BOOLEAN && hasIsPrefix(name)) {
+            names.add("set" + name.substring(2));
+        }
+        names.add("set" + capitalize(name));
+        return names;
+    }
+
+    private static boolean hasIsPrefix(String name) {
+        return name.length() > 2 && name.startsWith("is") && Character.isUpperCase(name.charAt(2));
+    }
+
+    private static String capitalize(String name) {
+        return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+
+    /**
+     * 按候选名称依次查找类型（含父类）中参数个数匹配的非 static 方法，找不到时报告编译错误
+     */
+    private String accessor(List<ExecutableElement> methods, VariableElement field, int parameters, List<String> names) {
+        for (String name : names) {
+            for (ExecutableElement method : methods) {
+                if (method.getSimpleName().contentEquals(name)
+                    && method.getParameters().size() == parameters
+                    && !method.getModifiers().contains(Modifier.STATIC)
+                    && !method.getModifiers().contains(Modifier.PRIVATE)) {
+                    return name;
+                }
+            }
+        }
+        error(field, "No accessible " + (parameters == 0 ? "getter" : "setter") + " for field "
+                     + field.getSimpleName() + ", expected one of " + names);
+        return null;
+    }
+
+    private void writeAdapter(String packageName, TypeElement type) throws IOException {
+        String typeName = type.getQualifiedName().toString();
+        String adapterName = type.getSimpleName() + "TypeAdapter";
+        List<Property> properties = properties(type);
+
+        Writer writer = processingEnv.getFiler().createSourceFile(packageName + "." + adapterName, type).openWriter();
+        try (PrintWriter out = new PrintWriter(writer)) {
+            out.println("package " + packageName + ";");
+            out.println();
+            out.println("@javax.annotation.processing.Generated(\"" + getClass().getName() + "\")");
+            out.println("final class " + adapterName + " extends com.google.gson.TypeAdapter<" + typeName + "> {");
+            out.println();
+            out.println("    /**");
+            out.println("     * 下标对应字段，序列化时排除的字段为 null");
+            out.println("     */");
+            out.println("    private final String[] names = new String[" + properties.size() + "];");
+            out.println("    /**");
+            out.println("     * 反序列化时接受的字段名到字段下标的映射");
+            out.println("     */");
+            out.println("    private final java.util.Map<String, Integer> fields = new java.util.HashMap<>();");
+            for (Property property : properties) {
+                if (!property.isString()) {
+                    out.println("    private final com.google.gson.TypeAdapter<" + boxed(property.type()) + "> "
+                                + property.adapterField() + ";");
+                }
+            }
+            out.println();
+            out.println("    " + adapterName + "(com.google.gson.Gson gson, boolean exposeOnly) {");
+            if (properties.stream().anyMatch(property -> property.serializedNames().isEmpty())) {
+                out.println("        com.google.gson.FieldNamingStrategy naming = gson.fieldNamingStrategy();");
+            }
+            for (int i = 0; i < properties.size(); i++) {
+                Property property = properties.get(i);
+                String name = property.serializedNames().isEmpty()
+                        ? "name(naming, " + property.declaringType() + ".class, \"" + property.fieldName() + "\")"
+                        : "\"" + escape(property.serializedNames().get(0)) + "\"";
+                out.println("        names[" + i + "] = " + name + ";");
+            }
+            for (int i = 0; i < properties.size(); i++) {
+                Property property = properties.get(i);
+                StringBuilder accepted = new StringBuilder("names[" + i + "]");
+                for (String alternate : property.serializedNames().stream().skip(1).toList()) {
+                    accepted.append(", \"").append(escape(alternate)).append('"');
+                }
+                if (property.exposeDeserialize()) {
+                    out.println("        accept(" + i + ", " + accepted + ");");
+                } else {
+                    out.println("        if (!exposeOnly) {");
+                    out.println("            accept(" + i + ", " + accepted + ");");
+                    out.println("        }");
+                }
+            }
+            // 只开启了 excludeFieldsWithoutExposeAnnotation() 时，才排除没有 @Expose(serialize = true) 的字段
+            List<Integer> hidden = new ArrayList<>();
+            for (int i = 0; i < properties.size(); i++) {
+                if (!properties.get(i).exposeSerialize()) {
+                    hidden.add(i);
+                }
+            }
+            if (!hidden.isEmpty()) {
+                out.println("        if (exposeOnly) {");
+                for (int i : hidden) {
+                    out.println("            names[" + i + "] = null;");
+                }
+                out.println("        }");
+            }
+            for (Property property : properties) {
+                if (!property.isString()) {
+                    out.println("        this." + property.adapterField() + " = gson.getAdapter(" + typeToken(property.type()) + ");");
+                }
+            }
+            out.println("    }");
+            out.println();
+            out.println("    private void accept(int index, String... accepted) {");
+            out.println("        for (String name : accepted) {");
+            out.println("            if (fields.put(name, index) != null) {");
+            out.println("                throw new IllegalArgumentException(\"" + typeName
+                        + " declares multiple JSON fields named '\" + name + \"'\");");
+            out.println("            }");
+            out.println("        }");
+            out.println("    }");
+            out.println();
+            // 默认命名策略直接使用字段名，只有配置了其他策略时才需要查找 Field，每个适配器查找一次
+            out.println("    private static String name(com.google.gson.FieldNamingStrategy naming, Class<?> declaringType, String field) {");
+            out.println("        if (naming == com.google.gson.FieldNamingPolicy.IDENTITY) {");
+            out.println("            return field;");
+            out.println("        }");
+            out.println("        try {");
+            out.println("            return naming.translateName(declaringType.getDeclaredField(field));");
+            out.println("        } catch (NoSuchFieldException e) {");
+            out.println("            throw new IllegalStateException(e);");
+            out.println("        }");
+            out.println("    }");
+            out.println();
+
+            // write
+            out.println("    @Override");
+            out.println("    public void write(com.google.gson.stream.JsonWriter out, " + typeName + " value) throws java.io.IOException {");
+            out.println("        if (value == null) {");
+            out.println("            out.nullValue();");
+            out.println("            return;");
+            out.println("        }");
+            out.println("        out.beginObject();");
+            for (int i = 0; i < properties.size(); i++) {
+                Property property = properties.get(i);
+                out.println("        if (names[" + i + "] != null) {");
+                out.println("            out.name(names[" + i + "]);");
+                if (property.isString()) {
+                    out.println("            out.value(value." + property.getter() + "());");
+                } else {
+                    out.println("            " + property.adapterField() + ".write(out, value." + property.getter() + "());");
+                }
+                out.println("        }");
+            }
+            out.println("        out.endObject();");
+            out.println("    }");
+            out.println();
+
+            // read
+            out.println("    @Override");
+            out.println("    public " + typeName + " read(com.google.gson.stream.JsonReader in) throws java.io.IOException {");
+            out.println("        if (in.peek() == com.google.gson.stream.JsonToken.NULL) {");
+            out.println("            in.nextNull();");
+            out.println("            return null;");
+            out.println("        }");
+            out.println("        " + typeName + " value = new " + typeName + "();");
+            out.println("        in.beginObject();");
+            out.println("        while (in.hasNext()) {");
+            out.println("            Integer index = fields.get(in.nextName());");
+            out.println("            if (index == null) {");
+            out.println("                in.skipValue();");
+            out.println("                continue;");
+            out.println("            }");
+            out.println("            switch (index) {");
+            for (int i = 0; i < properties.size(); i++) {
+                Property property = properties.get(i);
+                String read = property.isString() ? "readString(in)" : property.adapterField() + ".read(in)";
+                if (property.type().getKind().isPrimitive()) {
+                    // 与 Gson 一致，基本类型遇到 null 时保留默认值
+                    String local = property.fieldName() + "Value";
+                    out.println("                case " + i + " -> {");
+                    out.println("                    " + boxed(property.type()) + " " + local + " = " + read + ";");
+                    out.println("                    if (" + local + " != null) {");
+                    out.println("                        value." + property.setter() + "(" + local + ");");
+                    out.println("                    }");
+                    out.println("                }");
+                } else {
+                    out.println("                case " + i + " -> value." + property.setter() + "(" + read + ");");
+                }
+            }
+            out.println("                default -> in.skipValue();");
+            out.println("            }");
+            out.println("        }");
+            out.println("        in.endObject();");
+            out.println("        return value;");
+            out.println("    }");
+            out.println();
+
+            // 与 Gson 内置的 String 适配器一致，布尔值按字符串读取
+            out.println("    private static String readString(com.google.gson.stream.JsonReader in) throws java.io.IOException {");
+            out.println("        com.google.gson.stream.JsonToken token = in.peek();");
+            out.println("        if (token == com.google.gson.stream.JsonToken.NULL) {");
+            out.println("            in.nextNull();");
+            out.println("            return null;");
+            out.println("        }");
+            out.println("        if (token == com.google.gson.stream.JsonToken.BOOLEAN) {");
+            out.println("            return Boolean.toString(in.nextBoolean());");
+            out.println("        }");
+            out.println("        return in.nextString();");
+            out.println("    }");
+            out.println("}");
+        }
+    }
+
+    private void writeFactory(String packageName, List<TypeElement> types) throws IOException {
+        PackageElement packageElement = processingEnv.getElementUtils().getPackageElement(packageName);
+        Writer writer = processingEnv.getFiler()
+                .createSourceFile(packageName + "." + FACTORY_NAME, types.toArray(new Element[0]))
+                .openWriter();
+        try (PrintWriter out = new PrintWriter(writer)) {
+            out.println("package " + packageElement.getQualifiedName() + ";");
+            out.println();
+            out.println("@javax.annotation.processing.Generated(\"" + getClass().getName() + "\")");
+            out.println("public final class " + FACTORY_NAME + " implements com.google.gson.TypeAdapterFactory {");
+            out.println();
+            out.println("    /**");
+            out.println("     * 用于检测 excludeFieldsWithoutExposeAnnotation()，开启时只会输出 exposed 字段");
+            out.println("     */");
+            out.println("    private static final class ExposeProbe {");
+            out.println("        @com.google.gson.annotations.Expose");
+            out.println("        private final int exposed = 1;");
+            out.println("        private final int plain = 1;");
+            out.println("    }");
+            out.println();
+            out.println("    @Override");
+            out.println("    @SuppressWarnings(\"unchecked\")");
+            out.println("    public <T> com.google.gson.TypeAdapter<T> create(com.google.gson.Gson gson, com.google.gson.reflect.TypeToken<T> type) {");
+            out.println("        Class<? super T> raw = type.getRawType();");
+            for (TypeElement type : types) {
+                out.println("        if (raw == " + type.getQualifiedName() + ".class) {");
+                out.println("            return (com.google.gson.TypeAdapter<T>) new " + type.getSimpleName() + "TypeAdapter(gson, exposeOnly(gson));");
+                out.println("        }");
+            }
+            out.println("        return null;");
+            out.println("    }");
+            out.println();
+            // Gson 没有公开这一配置，通过公开的 API 序列化一次探测对象判断
+            out.println("    private static boolean exposeOnly(com.google.gson.Gson gson) {");
+            out.println("        return gson.toJsonTree(new ExposeProbe()).getAsJsonObject().size() == 1;");
+            out.println("    }");
+            out.println("}");
+        }
+    }
+
+    private String boxed(TypeMirror type) {
+        if (type.getKind().isPrimitive()) {
+            return processingEnv.getTypeUtils().boxedClass((PrimitiveType) type).getQualifiedName().toString();
+        }
+        return type.toString();
+    }
+
+    private String typeToken(TypeMirror type) {
+        if (type.getKind() == TypeKind.DECLARED && !((DeclaredType) type).getTypeArguments().isEmpty()) {
+            // 泛型类型在构造适配器时通过匿名子类获取一次，之后不再涉及反射
+            return "new com.google.gson.reflect.TypeToken<" + type + ">() {}";
+        }
+        return boxed(type) + ".class";
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+
+    private AnnotationValue value(AnnotationMirror mirror, String name) {
+        // 包含未显式指定的默认值
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry
+                : processingEnv.getElementUtils().getElementValuesWithDefaults(mirror).entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals(name)) {
+                return entry.getValue();
+            }
+        }
+        throw new IllegalStateException("No value " + name + " in " + mirror);
+    }
+
+    private void error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+}
@@ -1,5 +1,6 @@
 package indi.mofan.pojo;
 
+import indi.mofan.processor.GenerateTypeAdapter;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -13,6 +14,7 @@ import java.util.List;
  */
 @Getter
 @Setter
+@GenerateTypeAdapter
 @NoArgsConstructor
 @AllArgsConstructor
 public class Movie {
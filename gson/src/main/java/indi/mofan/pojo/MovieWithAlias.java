@@ -0,0 +1,32 @@
+package indi.mofan.pojo;
+
+import com.google.gson.annotations.SerializedName;
+import indi.mofan.processor.GenerateTypeAdapter;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * @author mofan
+ * @date 2026/10/19 11:10
+ */
+@Getter
+@Setter
+@GenerateTypeAdapter
+@NoArgsConstructor
+@AllArgsConstructor
+public class MovieWithAlias {
+
+    @SerializedName(value = "id", alternate = {"imdbId", "imdb_id"})
+    private String imdbId;
+
+    private String director;
+
+    private int releaseYear;
+
+    /**
+     * Lombok 为 is 开头的布尔字段生成 isClassic() 和 setClassic()
+     */
+    private boolean isClassic;
+}
@@ -1,6 +1,7 @@
 package indi.mofan.pojo;
 
 import com.google.gson.annotations.Expose;
+import indi.mofan.processor.GenerateTypeAdapter;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -14,6 +15,7 @@ import java.util.List;
  */
 @Getter
 @Setter
+@GenerateTypeAdapter
 @NoArgsConstructor
 @AllArgsConstructor
 public class MovieWithNullValue {
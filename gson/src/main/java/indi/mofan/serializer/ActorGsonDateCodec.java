@@ -0,0 +1,43 @@
+package indi.mofan.serializer;
+
+import java.text.ParsePosition;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Date;
+
+/**
+ * ActorGson 出生日期的编解码，DateTimeFormatter 不可变，可在多线程间共享
+ *
+ * @author mofan
+ * @date 2026/10/18 11:40
+ */
+public final class ActorGsonDateCodec {
+
+    /**
+     * 序列化格式，与原先 static SimpleDateFormat 一致使用类加载时的默认时区
+     */
+    private static final DateTimeFormatter OUTPUT = DateTimeFormatter.ofPattern("dd-MM-yyyy")
+            .withZone(ZoneId.systemDefault());
+
+    /**
+     * 反序列化格式，末尾的时区偏移（如 +01:00）会被忽略，按上海时间解析
+     */
+    private static final DateTimeFormatter INPUT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+
+    private static final ZoneId INPUT_ZONE = ZoneId.of("Asia/Shanghai");
+
+    private ActorGsonDateCodec() {
+    }
+
+    public static String format(Date date) {
+        return OUTPUT.format(Instant.ofEpochMilli(date.getTime()));
+    }
+
+    public static Date parse(String text) {
+        // 与 SimpleDateFormat#parse(String) 相同，只要求前缀匹配
+        LocalDateTime dateTime = LocalDateTime.from(INPUT.parse(text, new ParsePosition(0)));
+        return Date.from(dateTime.atZone(INPUT_ZONE).toInstant());
+    }
+}
@@ -7,12 +7,9 @@ import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParseException;
 import indi.mofan.pojo.ActorGson;
-import lombok.SneakyThrows;
 
 import java.lang.reflect.Type;
-import java.text.SimpleDateFormat;
 import java.util.ArrayList;
-import java.util.TimeZone;
 
 /**
  * @author mofan
@@ -20,14 +17,7 @@ import java.util.TimeZone;
  */
 public class ActorGsonDeserializer implements JsonDeserializer<ActorGson> {
 
-    public static final SimpleDateFormat FORMAT = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss");
-
-    static {
-        FORMAT.setTimeZone(TimeZone.getTimeZone("Asia/Shanghai"));
-    }
-
     @Override
-    @SneakyThrows
     public ActorGson deserialize(JsonElement json,
                                  Type type,
                                  JsonDeserializationContext jsonDeserializationContext) throws JsonParseException {
@@ -47,7 +37,7 @@ public class ActorGsonDeserializer implements JsonDeserializer<ActorGson> {
 
         return new ActorGson(
                 jsonImdbId.getAsString(),
-                FORMAT.parse(jsonDateOfBirth.getAsString()),
+                ActorGsonDateCodec.parse(jsonDateOfBirth.getAsString()),
                 filmList
         );
     }
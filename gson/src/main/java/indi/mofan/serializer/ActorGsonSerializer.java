@@ -7,7 +7,6 @@ import com.google.gson.JsonSerializer;
 import indi.mofan.pojo.ActorGson;
 
 import java.lang.reflect.Type;
-import java.text.SimpleDateFormat;
 import java.util.List;
 
 /**
@@ -15,8 +14,6 @@ import java.util.List;
  * @date 2023/12/7 16:35
  */
 public class ActorGsonSerializer implements JsonSerializer<ActorGson> {
-    private static final SimpleDateFormat FORMAT = new SimpleDateFormat("dd-MM-yyyy");
-
     @Override
     public JsonElement serialize(ActorGson actor, Type type,
                                  JsonSerializationContext jsonSerializationContext) {
@@ -27,7 +24,7 @@ public class ActorGsonSerializer implements JsonSerializer<ActorGson> {
 
         actorJsonObj.addProperty("Date Of Birth",
                 actor.getDateOfBirth() != null ?
-                        FORMAT.format(actor.getDateOfBirth()) : null);
+                        ActorGsonDateCodec.format(actor.getDateOfBirth()) : null);
 
         actorJsonObj.addProperty("N° Film: ",
                 actor.getFilmography()  != null ?
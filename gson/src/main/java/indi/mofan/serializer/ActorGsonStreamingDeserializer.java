@@ -0,0 +1,100 @@
+package indi.mofan.serializer;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import indi.mofan.pojo.ActorGson;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 与 {@link ActorGsonDeserializer} 结果一致，边读取 token 边赋值，不构建 JsonObject。
+ * 与它一样，缺少 imdbId 或 dateOfBirth 时读取失败。
+ * <p>
+ * 通过 {@code registerTypeAdapterFactory} 注册。与 JsonDeserializer 一样只负责反序列化，
+ * 序列化交给 Gson 原本的 TypeAdapter（默认通过反射输出）。
+ *
+ * @author mofan
+ * @date 2026/10/18 11:55
+ */
+public class ActorGsonStreamingDeserializer implements TypeAdapterFactory {
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+        if (type.getRawType() != ActorGson.class) {
+            return null;
+        }
+        TypeAdapter<ActorGson> delegate = gson.getDelegateAdapter(this, TypeToken.get(ActorGson.class));
+        return (TypeAdapter<T>) new TypeAdapter<ActorGson>() {
+            @Override
+            public void write(JsonWriter out, ActorGson value) throws IOException {
+                delegate.write(out, value);
+            }
+
+            @Override
+            public ActorGson read(JsonReader in) throws IOException {
+                return ActorGsonStreamingDeserializer.read(in);
+            }
+        };
+    }
+
+    private static ActorGson read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        String imdbId = null;
+        String dateOfBirth = null;
+        List<String> filmography = new ArrayList<>();
+
+        in.beginObject();
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "imdbId" -> imdbId = nextStringOrNull(in);
+                case "dateOfBirth" -> dateOfBirth = nextStringOrNull(in);
+                case "filmography" -> {
+                    if (in.peek() == JsonToken.NULL) {
+                        in.nextNull();
+                        continue;
+                    }
+                    in.beginArray();
+                    while (in.hasNext()) {
+                        filmography.add(in.nextString());
+                    }
+                    in.endArray();
+                }
+                default -> in.skipValue();
+            }
+        }
+        in.endObject();
+
+        return new ActorGson(
+                required(imdbId, "imdbId", in),
+                ActorGsonDateCodec.parse(required(dateOfBirth, "dateOfBirth", in)),
+                filmography
+        );
+    }
+
+    private static String required(String value, String name, JsonReader in) {
+        if (value == null) {
+            throw new JsonParseException("Missing or null '" + name + "' for ActorGson at " + in.getPath());
+        }
+        return value;
+    }
+
+    private static String nextStringOrNull(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        return in.nextString();
+    }
+}
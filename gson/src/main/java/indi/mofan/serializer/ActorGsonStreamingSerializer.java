@@ -0,0 +1,65 @@
+package indi.mofan.serializer;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import indi.mofan.pojo.ActorGson;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * 与 {@link ActorGsonSerializer} 输出一致，直接写入 JsonWriter，不构建 JsonObject。
+ * <p>
+ * 通过 {@code registerTypeAdapterFactory} 注册。与 JsonSerializer 一样只负责序列化，
+ * 反序列化交给 Gson 原本的 TypeAdapter（默认通过反射读取）。
+ *
+ * @author mofan
+ * @date 2026/10/18 11:50
+ */
+public class ActorGsonStreamingSerializer implements TypeAdapterFactory {
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+        if (type.getRawType() != ActorGson.class) {
+            return null;
+        }
+        TypeAdapter<ActorGson> delegate = gson.getDelegateAdapter(this, TypeToken.get(ActorGson.class));
+        return (TypeAdapter<T>) new TypeAdapter<ActorGson>() {
+            @Override
+            public void write(JsonWriter out, ActorGson actor) throws IOException {
+                ActorGsonStreamingSerializer.write(out, actor);
+            }
+
+            @Override
+            public ActorGson read(JsonReader in) throws IOException {
+                return delegate.read(in);
+            }
+        };
+    }
+
+    private static void write(JsonWriter out, ActorGson actor) throws IOException {
+        if (actor == null) {
+            out.nullValue();
+            return;
+        }
+        out.beginObject();
+        out.name("IMDB Code").value(actor.getImdbId());
+        out.name("Date Of Birth").value(actor.getDateOfBirth() != null ?
+                ActorGsonDateCodec.format(actor.getDateOfBirth()) : null);
+
+        List<String> filmography = actor.getFilmography();
+        if (filmography != null) {
+            out.name("N° Film: ").value(filmography.size());
+            out.name("filmography").value(String.join("-", filmography));
+        } else {
+            out.name("N° Film: ").nullValue();
+            out.name("filmography").nullValue();
+        }
+        out.endObject();
+    }
+}
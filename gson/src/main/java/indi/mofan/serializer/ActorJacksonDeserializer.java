@@ -0,0 +1,61 @@
+package indi.mofan.serializer;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import indi.mofan.pojo.ActorGson;
+
+import java.io.IOException;
+import java.io.Serial;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Jackson 版本的 {@link ActorGsonDeserializer}
+ *
+ * @author mofan
+ * @date 2026/10/18 13:05
+ */
+public class ActorJacksonDeserializer extends StdDeserializer<ActorGson> {
+    @Serial
+    private static final long serialVersionUID = -6121981930938421770L;
+
+    public ActorJacksonDeserializer() {
+        this(null);
+    }
+
+    public ActorJacksonDeserializer(Class<?> vc) {
+        super(vc);
+    }
+
+    @Override
+    public ActorGson deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+        String imdbId = null;
+        String dateOfBirth = null;
+        List<String> filmography = new ArrayList<>();
+
+        String name = parser.hasToken(JsonToken.START_OBJECT) ? parser.nextFieldName() : parser.currentName();
+        for (; name != null; name = parser.nextFieldName()) {
+            JsonToken token = parser.nextToken();
+            switch (name) {
+                case "imdbId" -> imdbId = parser.getValueAsString();
+                case "dateOfBirth" -> dateOfBirth = parser.getValueAsString();
+                case "filmography" -> {
+                    if (token == JsonToken.START_ARRAY) {
+                        while (parser.nextToken() != JsonToken.END_ARRAY) {
+                            filmography.add(parser.getText());
+                        }
+                    }
+                }
+                default -> parser.skipChildren();
+            }
+        }
+
+        return new ActorGson(
+                imdbId,
+                dateOfBirth != null ? ActorGsonDateCodec.parse(dateOfBirth) : null,
+                filmography
+        );
+    }
+}
@@ -0,0 +1,47 @@
+package indi.mofan.serializer;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import indi.mofan.pojo.ActorGson;
+
+import java.io.IOException;
+import java.io.Serial;
+import java.util.List;
+
+/**
+ * Jackson 版本的 {@link ActorGsonSerializer}，输出与开启 serializeNulls 的 Gson 一致
+ *
+ * @author mofan
+ * @date 2026/10/18 13:00
+ */
+public class ActorJacksonSerializer extends StdSerializer<ActorGson> {
+    @Serial
+    private static final long serialVersionUID = 2224094532717658815L;
+
+    public ActorJacksonSerializer() {
+        this(null);
+    }
+
+    public ActorJacksonSerializer(Class<ActorGson> t) {
+        super(t);
+    }
+
+    @Override
+    public void serialize(ActorGson actor, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject();
+        gen.writeStringField("IMDB Code", actor.getImdbId());
+        gen.writeStringField("Date Of Birth", actor.getDateOfBirth() != null ?
+                ActorGsonDateCodec.format(actor.getDateOfBirth()) : null);
+
+        List<String> filmography = actor.getFilmography();
+        if (filmography != null) {
+            gen.writeNumberField("N° Film: ", filmography.size());
+            gen.writeStringField("filmography", String.join("-", filmography));
+        } else {
+            gen.writeNullField("N° Film: ");
+            gen.writeNullField("filmography");
+        }
+        gen.writeEndObject();
+    }
+}
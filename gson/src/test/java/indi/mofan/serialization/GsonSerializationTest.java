@@ -1,12 +1,22 @@
 package indi.mofan.serialization;
 
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.google.gson.FieldNamingPolicy;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParseException;
 import indi.mofan.pojo.ActorGson;
+import indi.mofan.pojo.GeneratedTypeAdapterFactory;
 import indi.mofan.pojo.Movie;
+import indi.mofan.pojo.MovieWithAlias;
 import indi.mofan.pojo.MovieWithNullValue;
 import indi.mofan.serializer.ActorGsonDeserializer;
 import indi.mofan.serializer.ActorGsonSerializer;
+import indi.mofan.serializer.ActorGsonStreamingDeserializer;
+import indi.mofan.serializer.ActorGsonStreamingSerializer;
+import indi.mofan.serializer.ActorJacksonDeserializer;
+import indi.mofan.serializer.ActorJacksonSerializer;
 import lombok.SneakyThrows;
 import net.javacrumbs.jsonunit.assertj.JsonAssertions;
 import net.javacrumbs.jsonunit.core.Option;
@@ -14,6 +24,7 @@ import org.assertj.core.api.WithAssertions;
 import org.junit.jupiter.api.Test;
 
 import java.text.SimpleDateFormat;
+import java.util.Arrays;
 import java.util.List;
 import java.util.TimeZone;
 
@@ -98,6 +109,29 @@ public class GsonSerializationTest implements WithAssertions {
         JsonAssertions.assertThatJson(result).isEqualTo(expectJson);
     }
 
+    @Test
+    @SneakyThrows
+    public void testStreamingSerialization() {
+        SimpleDateFormat sdf = new SimpleDateFormat("dd-MM-yyyy");
+        MovieWithNullValue movie = new MovieWithNullValue(null, "Mel Gibson", Arrays.asList(
+                new ActorGson("nm2199632", sdf.parse("21-09-1982"), List.of("Apocalypto", "Beatdown", "Wind Walkers")),
+                new ActorGson("nm0000154", null, null),
+                null));
+
+        GsonBuilder builder = new GsonBuilder()
+                .excludeFieldsWithoutExposeAnnotation()
+                .serializeNulls()
+                .disableHtmlEscaping();
+        String tree = builder.registerTypeAdapter(ActorGson.class, new ActorGsonSerializer())
+                .create()
+                .toJson(movie);
+        // 使用 TypeAdapter 直接写入 JsonWriter，输出与 JsonSerializer 完全一致
+        String streaming = builder.registerTypeAdapterFactory(new ActorGsonStreamingSerializer())
+                .create()
+                .toJson(movie);
+        assertThat(streaming).isEqualTo(tree);
+    }
+
     // 内部存在 HTML 字符
     static final String JSON_INPUT = "{\"imdbId\":\"tt0472043\",\"actors\":" +
                                      "[{\"imdbId\":\"nm2199632\",\"dateOfBirth\":\"1982-09-21T12:00:00+01:00\"," +
@@ -151,4 +185,151 @@ public class GsonSerializationTest implements WithAssertions {
                         "1982-09-21 12:00:00",
                         List.of("Apocalypto", "Beatdown", "Wind Walkers"));
     }
+
+    @Test
+    public void testStreamingDeserialization() {
+        Gson tree = new GsonBuilder()
+                .registerTypeAdapter(ActorGson.class, new ActorGsonDeserializer())
+                .create();
+        Gson streaming = new GsonBuilder()
+                .registerTypeAdapterFactory(new ActorGsonStreamingDeserializer())
+                .create();
+
+        Movie expect = tree.fromJson(JSON_INPUT, Movie.class);
+        Movie actual = streaming.fromJson(JSON_INPUT, Movie.class);
+        assertThat(actual).usingRecursiveComparison().isEqualTo(expect);
+
+        // 与 ActorGsonDeserializer 一样，缺少必需的字段时失败
+        assertThatExceptionOfType(JsonParseException.class)
+                .isThrownBy(() -> streaming.fromJson("{\"actors\":[{\"dateOfBirth\":\"1982-09-21T12:00:00+01:00\"}]}", Movie.class))
+                .withMessageContaining("imdbId");
+        assertThatExceptionOfType(JsonParseException.class)
+                .isThrownBy(() -> streaming.fromJson("{\"actors\":[{\"imdbId\":\"nm2199632\",\"dateOfBirth\":null}]}", Movie.class))
+                .withMessageContaining("dateOfBirth");
+    }
+
+    @Test
+    public void testStreamingAdaptersKeepTheOtherDirection() {
+        // 只注册序列化的 TypeAdapter 时，反序列化与默认的反射方式一致
+        Gson serializerOnly = new GsonBuilder()
+                .registerTypeAdapterFactory(new ActorGsonStreamingSerializer())
+                .create();
+        assertThat(serializerOnly.fromJson(JSON_INPUT, Movie.class))
+                .usingRecursiveComparison()
+                .isEqualTo(new Gson().fromJson(JSON_INPUT, Movie.class));
+
+        // 只注册反序列化的 TypeAdapter 时，序列化与默认的反射方式一致
+        Gson deserializerOnly = new GsonBuilder()
+                .registerTypeAdapterFactory(new ActorGsonStreamingDeserializer())
+                .create();
+        Movie movie = new Gson().fromJson(JSON_INPUT, Movie.class);
+        assertThat(deserializerOnly.toJson(movie)).isEqualTo(new Gson().toJson(movie));
+    }
+
+    @Test
+    @SneakyThrows
+    public void testJacksonEquivalentOfCustomAdapters() {
+        SimpleModule module = new SimpleModule()
+                .addSerializer(ActorGson.class, new ActorJacksonSerializer())
+                .addDeserializer(ActorGson.class, new ActorJacksonDeserializer());
+        JsonMapper mapper = JsonMapper.builder().addModule(module).build();
+        Gson gson = new GsonBuilder()
+                .serializeNulls()
+                .registerTypeAdapter(ActorGson.class, new ActorGsonSerializer())
+                .create();
+
+        SimpleDateFormat sdf = new SimpleDateFormat("dd-MM-yyyy");
+        for (ActorGson actor : List.of(
+                new ActorGson("nm2199632", sdf.parse("21-09-1982"), List.of("Apocalypto", "Beatdown", "Wind Walkers")),
+                new ActorGson("nm0000154", null, null))) {
+            JsonAssertions.assertThatJson(mapper.writeValueAsString(actor)).isEqualTo(gson.toJson(actor));
+        }
+
+        Movie expect = new GsonBuilder()
+                .registerTypeAdapter(ActorGson.class, new ActorGsonDeserializer())
+                .create()
+                .fromJson(JSON_INPUT, Movie.class);
+        Movie actual = mapper.readValue(JSON_INPUT, Movie.class);
+        assertThat(actual).usingRecursiveComparison().isEqualTo(expect);
+    }
+
+    @Test
+    @SneakyThrows
+    public void testGeneratedTypeAdapterFactory() {
+        SimpleDateFormat sdf = new SimpleDateFormat("dd-MM-yyyy");
+        Movie movie = new Movie("tt0472043", "Mel Gibson", Arrays.asList(
+                new ActorGson("nm2199632", sdf.parse("21-09-1982"), List.of("Apocalypto", "Beatdown", "Wind Walkers")),
+                new ActorGson("nm0000154", null, null),
+                null));
+
+        Gson reflection = new GsonBuilder().serializeNulls().create();
+        // 编译期生成的 TypeAdapter，通过 getter / setter 读写，不再反射访问字段
+        Gson generated = new GsonBuilder()
+                .serializeNulls()
+                .registerTypeAdapterFactory(new GeneratedTypeAdapterFactory())
+                .create();
+        assertThat(generated.getAdapter(Movie.class).getClass().getSimpleName()).isEqualTo("MovieTypeAdapter");
+
+        String json = reflection.toJson(movie);
+        assertThat(generated.toJson(movie)).isEqualTo(json);
+        assertThat(generated.fromJson(json, Movie.class))
+                .usingRecursiveComparison()
+                .isEqualTo(reflection.fromJson(json, Movie.class));
+        assertThat(generated.fromJson(JSON_INPUT, Movie.class))
+                .usingRecursiveComparison()
+                .isEqualTo(reflection.fromJson(JSON_INPUT, Movie.class));
+    }
+
+    @Test
+    @SneakyThrows
+    public void testGeneratedTypeAdapterFactoryWithExposeOnly() {
+        SimpleDateFormat sdf = new SimpleDateFormat("dd-MM-yyyy");
+        MovieWithNullValue movie = new MovieWithNullValue(null, "Mel Gibson", List.of(
+                new ActorGson("nm2199632", sdf.parse("21-09-1982"), List.of("Apocalypto", "Beatdown", "Wind Walkers"))));
+
+        Gson reflection = new GsonBuilder()
+                .excludeFieldsWithoutExposeAnnotation()
+                .serializeNulls()
+                .create();
+        // 生成的适配器与反射一样遵循 Gson 实例的 excludeFieldsWithoutExposeAnnotation()
+        Gson generated = new GsonBuilder()
+                .excludeFieldsWithoutExposeAnnotation()
+                .serializeNulls()
+                .registerTypeAdapterFactory(new GeneratedTypeAdapterFactory())
+                .create();
+
+        String json = reflection.toJson(movie);
+        assertThat(generated.toJson(movie)).isEqualTo(json);
+
+        String input = new GsonBuilder().serializeNulls().create().toJson(movie);
+        assertThat(generated.fromJson(input, MovieWithNullValue.class))
+                .usingRecursiveComparison()
+                .isEqualTo(reflection.fromJson(input, MovieWithNullValue.class));
+    }
+
+    @Test
+    public void testGeneratedTypeAdapterFactoryWithNamingPolicy() {
+        MovieWithAlias movie = new MovieWithAlias("tt0472043", "Mel Gibson", 2006, true);
+        for (FieldNamingPolicy policy : List.of(FieldNamingPolicy.IDENTITY, FieldNamingPolicy.UPPER_CAMEL_CASE,
+                FieldNamingPolicy.LOWER_CASE_WITH_UNDERSCORES)) {
+            Gson reflection = new GsonBuilder().setFieldNamingPolicy(policy).create();
+            Gson generated = new GsonBuilder()
+                    .setFieldNamingPolicy(policy)
+                    .registerTypeAdapterFactory(new GeneratedTypeAdapterFactory())
+                    .create();
+            assertThat(generated.getAdapter(MovieWithAlias.class).getClass().getSimpleName())
+                    .isEqualTo("MovieWithAliasTypeAdapter");
+
+            String json = reflection.toJson(movie);
+            assertThat(generated.toJson(movie)).isEqualTo(json);
+            assertThat(json).contains("\"id\"", "true");
+            // @SerializedName 的 alternate 同样可以读取
+            for (String input : List.of(json, json.replace("\"id\"", "\"imdbId\""), json.replace("\"id\"", "\"imdb_id\""))) {
+                assertThat(generated.fromJson(input, MovieWithAlias.class))
+                        .usingRecursiveComparison()
+                        .isEqualTo(reflection.fromJson(input, MovieWithAlias.class))
+                        .isEqualTo(movie);
+            }
+        }
+    }
 }
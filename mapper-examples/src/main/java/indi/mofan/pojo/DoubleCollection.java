@@ -0,0 +1,21 @@
+package indi.mofan.pojo;
+
+/**
+ * DoubleList 和 DoubleSet 共同的不装箱访问方式，元素按插入顺序编号
+ *
+ * @author mofan
+ * @date 2026/10/19 09:47
+ */
+public interface DoubleCollection {
+
+    int size();
+
+    double getDouble(int index);
+
+    /**
+     * 添加元素，Set 中已经存在时返回 false
+     */
+    boolean addDouble(double value);
+
+    double[] toDoubleArray();
+}
@@ -0,0 +1,141 @@
+package indi.mofan.pojo;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * 按插入顺序保存 double 的 Set，元素存放在 {@link DoubleList} 中，另有一个开放寻址的 int[] 下标表用于去重，添加和查找都不装箱。
+ * <p>
+ * 元素比较方式与 {@code HashSet<Double>} 一致。只支持添加，不支持删除单个元素。
+ *
+ * @author mofan
+ * @date 2026/10/19 10:04
+ */
+public class DoubleSet extends AbstractSet<Double> implements DoubleCollection, Serializable {
+    @Serial
+    private static final long serialVersionUID = 9154749451765194761L;
+
+    private final DoubleList values = new DoubleList();
+
+    /**
+     * 保存 values 中的下标 + 1，0 表示空槽
+     */
+    private int[] table = new int[16];
+
+    public static DoubleSet of(double... values) {
+        DoubleSet set = new DoubleSet();
+        for (double value : values) {
+            set.addDouble(value);
+        }
+        return set;
+    }
+
+    @Override
+    public int size() {
+        return values.size();
+    }
+
+    /**
+     * 按插入顺序读取第 index 个元素
+     */
+    @Override
+    public double getDouble(int index) {
+        return values.getDouble(index);
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return o instanceof Double value && containsDouble(value);
+    }
+
+    public boolean containsDouble(double value) {
+        return table[slot(value)] != 0;
+    }
+
+    @Override
+    public boolean add(Double value) {
+        return addDouble(value);
+    }
+
+    @Override
+    public boolean addDouble(double value) {
+        int slot = slot(value);
+        if (table[slot] != 0) {
+            return false;
+        }
+        values.addDouble(value);
+        table[slot] = values.size();
+        if (values.size() * 2 > table.length) {
+            rehash(table.length << 1);
+        }
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        values.clear();
+        table = new int[16];
+    }
+
+    @Override
+    public double[] toDoubleArray() {
+        return values.toDoubleArray();
+    }
+
+    @Override
+    public Iterator<Double> iterator() {
+        return new Iterator<>() {
+            private int next;
+
+            @Override
+            public boolean hasNext() {
+                return next < values.size();
+            }
+
+            @Override
+            public Double next() {
+                if (next >= values.size()) {
+                    throw new NoSuchElementException();
+                }
+                return values.getDouble(next++);
+            }
+        };
+    }
+
+    /**
+     * 线性探测，返回 value 所在的槽位，不存在时返回应当插入的空槽位
+     */
+    private int slot(double value) {
+        int mask = table.length - 1;
+        for (int slot = hash(value) & mask; ; slot = (slot + 1) & mask) {
+            int index = table[slot];
+            if (index == 0 || equal(values.getDouble(index - 1), value)) {
+                return slot;
+            }
+        }
+    }
+
+    private void rehash(int capacity) {
+        table = new int[capacity];
+        int mask = capacity - 1;
+        for (int i = 0; i < values.size(); i++) {
+            int slot = hash(values.getDouble(i)) & mask;
+            while (table[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            table[slot] = i + 1;
+        }
+    }
+
+    private static boolean equal(double a, double b) {
+        return Double.doubleToLongBits(a) == Double.doubleToLongBits(b);
+    }
+
+    private static int hash(double value) {
+        long h = Double.doubleToLongBits(value) * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
@@ -0,0 +1,125 @@
+package indi.mofan.pojo;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+/**
+ * 使用 int[] 保存元素的 List，添加和读取都不装箱。
+ * <p>
+ * 通过 List 接口读写时仍然会装箱，大量数据请使用 {@link #addInt(int)}、{@link #getInt(int)} 等方法。
+ * 注册 PrimitiveCollectionsModule 后 Jackson 直接读写其中的 int。
+ *
+ * @author mofan
+ * @date 2026/10/19 09:50
+ */
+public class IntList extends AbstractList<Integer> implements IntCollection, RandomAccess, Serializable {
+    @Serial
+    private static final long serialVersionUID = -2456305703981575912L;
+
+    private static final int[] EMPTY = {};
+
+    private int[] elements;
+    private int size;
+
+    public IntList() {
+        elements = EMPTY;
+    }
+
+    public IntList(int capacity) {
+        elements = capacity == 0 ? EMPTY : new int[capacity];
+    }
+
+    public static IntList of(int... values) {
+        IntList list = new IntList(values.length);
+        System.arraycopy(values, 0, list.elements, 0, values.length);
+        list.size = values.length;
+        return list;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Integer get(int index) {
+        return getInt(index);
+    }
+
+    @Override
+    public int getInt(int index) {
+        checkIndex(index);
+        return elements[index];
+    }
+
+    @Override
+    public Integer set(int index, Integer element) {
+        return setInt(index, element);
+    }
+
+    public int setInt(int index, int element) {
+        checkIndex(index);
+        int old = elements[index];
+        elements[index] = element;
+        return old;
+    }
+
+    @Override
+    public boolean add(Integer element) {
+        return addInt(element);
+    }
+
+    @Override
+    public boolean addInt(int element) {
+        if (size == elements.length) {
+            grow(size + 1);
+        }
+        elements[size++] = element;
+        return true;
+    }
+
+    @Override
+    public Integer remove(int index) {
+        checkIndex(index);
+        int old = elements[index];
+        System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+        size--;
+        modCount++;
+        return old;
+    }
+
+    @Override
+    public void clear() {
+        size = 0;
+        modCount++;
+    }
+
+    @Override
+    public int[] toIntArray() {
+        return Arrays.copyOf(elements, size);
+    }
+
+    /**
+     * 去掉数组中多余的容量，读取完成后不再添加时可以调用
+     */
+    public void trimToSize() {
+        if (size < elements.length) {
+            elements = size == 0 ? EMPTY : Arrays.copyOf(elements, size);
+        }
+    }
+
+    private void grow(int minCapacity) {
+        int capacity = Math.max(minCapacity, elements.length + (elements.length >> 1));
+        elements = Arrays.copyOf(elements, Math.max(capacity, 10));
+        modCount++;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package indi.mofan.pojo;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * 按插入顺序保存 int 的 Set，元素存放在 {@link IntList} 中，另有一个开放寻址的 int[] 下标表用于去重，添加和查找都不装箱。
+ * <p>
+ * 元素比较方式与 {@code HashSet<Integer>} 一致。只支持添加，不支持删除单个元素。
+ *
+ * @author mofan
+ * @date 2026/10/19 10:00
+ */
+public class IntSet extends AbstractSet<Integer> implements IntCollection, Serializable {
+    @Serial
+    private static final long serialVersionUID = 7735019507469886123L;
+
+    private final IntList values = new IntList();
+
+    /**
+     * 保存 values 中的下标 + 1，0 表示空槽
+     */
+    private int[] table = new int[16];
+
+    public static IntSet of(int... values) {
+        IntSet set = new IntSet();
+        for (int value : values) {
+            set.addInt(value);
+        }
+        return set;
+    }
+
+    @Override
+    public int size() {
+        return values.size();
+    }
+
+    /**
+     * 按插入顺序读取第 index 个元素
+     */
+    @Override
+    public int getInt(int index) {
+        return values.getInt(index);
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return o instanceof Integer value && containsInt(value);
+    }
+
+    public boolean containsInt(int value) {
+        return table[slot(value)] != 0;
+    }
+
+    @Override
+    public boolean add(Integer value) {
+        return addInt(value);
+    }
+
+    @Override
+    public boolean addInt(int value) {
+        int slot = slot(value);
+        if (table[slot] != 0) {
+            return false;
+        }
+        values.addInt(value);
+        table[slot] = values.size();
+        if (values.size() * 2 > table.length) {
+            rehash(table.length << 1);
+        }
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        values.clear();
+        table = new int[16];
+    }
+
+    @Override
+    public int[] toIntArray() {
+        return values.toIntArray();
+    }
+
+    @Override
+    public Iterator<Integer> iterator() {
+        return new Iterator<>() {
+            private int next;
+
+            @Override
+            public boolean hasNext() {
+                return next < values.size();
+            }
+
+            @Override
+            public Integer next() {
+                if (next >= values.size()) {
+                    throw new NoSuchElementException();
+                }
+                return values.getInt(next++);
+            }
+        };
+    }
+
+    /**
+     * 线性探测，返回 value 所在的槽位，不存在时返回应当插入的空槽位
+     */
+    private int slot(int value) {
+        int mask = table.length - 1;
+        for (int slot = hash(value) & mask; ; slot = (slot + 1) & mask) {
+            int index = table[slot];
+            if (index == 0 || equal(values.getInt(index - 1), value)) {
+                return slot;
+            }
+        }
+    }
+
+    private void rehash(int capacity) {
+        table = new int[capacity];
+        int mask = capacity - 1;
+        for (int i = 0; i < values.size(); i++) {
+            int slot = hash(values.getInt(i)) & mask;
+            while (table[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            table[slot] = i + 1;
+        }
+    }
+
+    private static boolean equal(int a, int b) {
+        return a == b;
+    }
+
+    private static int hash(int value) {
+        int h = value * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
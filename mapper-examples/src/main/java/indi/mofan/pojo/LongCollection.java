@@ -0,0 +1,21 @@
+package indi.mofan.pojo;
+
+/**
+ * LongList 和 LongSet 共同的不装箱访问方式，元素按插入顺序编号
+ *
+ * @author mofan
+ * @date 2026/10/19 09:46
+ */
+public interface LongCollection {
+
+    int size();
+
+    long getLong(int index);
+
+    /**
+     * 添加元素，Set 中已经存在时返回 false
+     */
+    boolean addLong(long value);
+
+    long[] toLongArray();
+}
@@ -0,0 +1,125 @@
+package indi.mofan.pojo;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+/**
+ * 使用 long[] 保存元素的 List，添加和读取都不装箱。
+ * <p>
+ * 通过 List 接口读写时仍然会装箱，大量数据请使用 {@link #addLong(long)}、{@link #getLong(int)} 等方法。
+ * 注册 PrimitiveCollectionsModule 后 Jackson 直接读写其中的 long。
+ *
+ * @author mofan
+ * @date 2026/10/19 09:52
+ */
+public class LongList extends AbstractList<Long> implements LongCollection, RandomAccess, Serializable {
+    @Serial
+    private static final long serialVersionUID = 3350537944350219262L;
+
+    private static final long[] EMPTY = {};
+
+    private long[] elements;
+    private int size;
+
+    public LongList() {
+        elements = EMPTY;
+    }
+
+    public LongList(int capacity) {
+        elements = capacity == 0 ? EMPTY : new long[capacity];
+    }
+
+    public static LongList of(long... values) {
+        LongList list = new LongList(values.length);
+        System.arraycopy(values, 0, list.elements, 0, values.length);
+        list.size = values.length;
+        return list;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Long get(int index) {
+        return getLong(index);
+    }
+
+    @Override
+    public long getLong(int index) {
+        checkIndex(index);
+        return elements[index];
+    }
+
+    @Override
+    public Long set(int index, Long element) {
+        return setLong(index, element);
+    }
+
+    public long setLong(int index, long element) {
+        checkIndex(index);
+        long old = elements[index];
+        elements[index] = element;
+        return old;
+    }
+
+    @Override
+    public boolean add(Long element) {
+        return addLong(element);
+    }
+
+    @Override
+    public boolean addLong(long element) {
+        if (size == elements.length) {
+            grow(size + 1);
+        }
+        elements[size++] = element;
+        return true;
+    }
+
+    @Override
+    public Long remove(int index) {
+        checkIndex(index);
+        long old = elements[index];
+        System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+        size--;
+        modCount++;
+        return old;
+    }
+
+    @Override
+    public void clear() {
+        size = 0;
+        modCount++;
+    }
+
+    @Override
+    public long[] toLongArray() {
+        return Arrays.copyOf(elements, size);
+    }
+
+    /**
+     * 去掉数组中多余的容量，读取完成后不再添加时可以调用
+     */
+    public void trimToSize() {
+        if (size < elements.length) {
+            elements = size == 0 ? EMPTY : Arrays.copyOf(elements, size);
+        }
+    }
+
+    private void grow(int minCapacity) {
+        int capacity = Math.max(minCapacity, elements.length + (elements.length >> 1));
+        elements = Arrays.copyOf(elements, Math.max(capacity, 10));
+        modCount++;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+}
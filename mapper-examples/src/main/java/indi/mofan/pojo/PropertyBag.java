@@ -0,0 +1,247 @@
+package indi.mofan.pojo;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiConsumer;
+
+/**
+ * 按插入顺序保存动态属性的紧凑 Map，用来代替 {@code @JsonAnySetter} 中的 LinkedHashMap：
+ * <pre>{@code
+ * @JsonAnySetter
+ * @JsonAnyGetter
+ * PropertyBag details = new PropertyBag();
+ * }</pre>
+ * 键和值分别保存在两个平行数组中，没有 LinkedHashMap 的 Entry 对象和哈希桶。
+ * 键通过全局的名字表共享，大量对象使用同一批属性名时只保留一份字符串。
+ * <p>
+ * 属性不多时查找是线性扫描；超过 {@value #INDEX_THRESHOLD} 个后按需建立从键到下标的哈希索引，
+ * 避免大量动态属性时读取变成 O(N²)。不是线程安全的。
+ *
+ * @author mofan
+ * @date 2026/10/18 23:20
+ */
+public class PropertyBag extends AbstractMap<String, Object> implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 4137926140590871852L;
+
+    private static final String[] EMPTY_KEYS = {};
+    private static final Object[] EMPTY_VALUES = {};
+
+    private static final int INDEX_THRESHOLD = 8;
+
+    private static final int MAX_NAMES = 10_000;
+    private static final ConcurrentMap<String, String> NAMES = new ConcurrentHashMap<>();
+
+    private String[] keys = EMPTY_KEYS;
+    private Object[] values = EMPTY_VALUES;
+    private int size;
+    /**
+     * 键到下标的索引，只在属性数超过阈值时建立，删除属性后丢弃、下次查找时重建
+     */
+    private transient HashMap<String, Integer> lookup;
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return indexOf(key) >= 0;
+    }
+
+    @Override
+    public Object get(Object key) {
+        int index = indexOf(key);
+        return index < 0 ? null : values[index];
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        int index = indexOf(key);
+        if (index >= 0) {
+            Object old = values[index];
+            values[index] = value;
+            return old;
+        }
+        if (size == keys.length) {
+            int capacity = size == 0 ? 4 : size + (size >> 1);
+            keys = Arrays.copyOf(keys, capacity);
+            values = Arrays.copyOf(values, capacity);
+        }
+        keys[size] = name(key);
+        values[size] = value;
+        if (lookup != null) {
+            lookup.put(keys[size], size);
+        }
+        size++;
+        return null;
+    }
+
+    @Override
+    public Object remove(Object key) {
+        int index = indexOf(key);
+        if (index < 0) {
+            return null;
+        }
+        Object old = values[index];
+        removeAt(index);
+        return old;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(keys, 0, size, null);
+        Arrays.fill(values, 0, size, null);
+        size = 0;
+        lookup = null;
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super String, ? super Object> action) {
+        for (int i = 0; i < size; i++) {
+            action.accept(keys[i], values[i]);
+        }
+    }
+
+    /**
+     * 去掉数组中多余的容量，对象读取完成后不再修改时可以调用
+     */
+    public void trimToSize() {
+        if (size < keys.length) {
+            keys = size == 0 ? EMPTY_KEYS : Arrays.copyOf(keys, size);
+            values = size == 0 ? EMPTY_VALUES : Arrays.copyOf(values, size);
+        }
+    }
+
+    /**
+     * 返回共享的属性名。Jackson 读取的字段名本身已经 intern，这里查表比每次调用 String#intern 更快；
+     * 属性名超过上限后不再共享，避免异常输入撑大常驻内存
+     */
+    private static String name(String key) {
+        String name = NAMES.get(key);
+        if (name != null) {
+            return name;
+        }
+        if (NAMES.size() >= MAX_NAMES) {
+            return key;
+        }
+        name = NAMES.putIfAbsent(key, key);
+        return name == null ? key : name;
+    }
+
+    private int indexOf(Object key) {
+        if (size > INDEX_THRESHOLD) {
+            if (lookup == null) {
+                lookup = HashMap.newHashMap(size);
+                for (int i = 0; i < size; i++) {
+                    lookup.put(keys[i], i);
+                }
+            }
+            Integer i = lookup.get(key);
+            return i == null ? -1 : i;
+        }
+        // 键大多是共享的同一个字符串，先按引用比较
+        for (int i = 0; i < size; i++) {
+            if (keys[i] == key) {
+                return i;
+            }
+        }
+        if (key != null) {
+            for (int i = 0; i < size; i++) {
+                if (key.equals(keys[i])) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    private void removeAt(int index) {
+        int moved = size - index - 1;
+        System.arraycopy(keys, index + 1, keys, index, moved);
+        System.arraycopy(values, index + 1, values, index, moved);
+        size--;
+        keys[size] = null;
+        values[size] = null;
+        // 后面的下标都变了
+        lookup = null;
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public int size() {
+                return size;
+            }
+
+            @Override
+            public Iterator<Entry<String, Object>> iterator() {
+                return new EntryIterator();
+            }
+        };
+    }
+
+    private final class EntryIterator implements Iterator<Entry<String, Object>> {
+        private int next;
+        private int last = -1;
+        private int expectedSize = size;
+
+        @Override
+        public boolean hasNext() {
+            return next < size;
+        }
+
+        @Override
+        public Entry<String, Object> next() {
+            if (expectedSize != size) {
+                throw new ConcurrentModificationException();
+            }
+            if (next >= size) {
+                throw new NoSuchElementException();
+            }
+            last = next++;
+            return new BagEntry(last);
+        }
+
+        @Override
+        public void remove() {
+            if (last < 0) {
+                throw new IllegalStateException();
+            }
+            removeAt(last);
+            next = last;
+            last = -1;
+            expectedSize = size;
+        }
+    }
+
+    private final class BagEntry extends SimpleEntry<String, Object> {
+        @Serial
+        private static final long serialVersionUID = -2402846279615431073L;
+
+        private final int index;
+
+        BagEntry(int index) {
+            super(keys[index], values[index]);
+            this.index = index;
+        }
+
+        @Override
+        public Object setValue(Object value) {
+            values[index] = value;
+            return super.setValue(value);
+        }
+    }
+}
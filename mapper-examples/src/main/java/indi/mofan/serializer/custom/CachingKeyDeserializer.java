@@ -0,0 +1,102 @@
+package indi.mofan.serializer.custom;
+
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.KeyDeserializer;
+import com.fasterxml.jackson.databind.deser.ContextualKeyDeserializer;
+import com.fasterxml.jackson.databind.util.LRUMap;
+
+import java.io.IOException;
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 包装 Map 的 key 反序列化器，缓存字段名到 key 对象的映射，重复的字段名不再重新解析。
+ * <p>
+ * 命中时返回的是同一个 key 实例，只适用于不可变的 key 类型。
+ * <p>
+ * 与 {@link CachingKeySerializer} 一样，按 {@link KeySettings} 为每组配置保留一个缓存，
+ * 最多 {@value #MAX_SETTINGS} 组。
+ *
+ * @author mofan
+ * @date 2026/10/18 21:10
+ */
+public class CachingKeyDeserializer extends KeyDeserializer implements ContextualKeyDeserializer, Serializable {
+    @Serial
+    private static final long serialVersionUID = -6385027403158147052L;
+
+    private static final int MAX_SETTINGS = 8;
+
+    private final KeyDeserializer delegate;
+    private final int maxEntries;
+    private transient volatile Cache cache;
+    private transient volatile Map<KeySettings, LRUMap<String, Object>> caches;
+
+    public CachingKeyDeserializer(KeyDeserializer delegate, int maxEntries) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("maxEntries must be positive: " + maxEntries);
+        }
+        this.delegate = delegate;
+        this.maxEntries = maxEntries;
+    }
+
+    @Override
+    public KeyDeserializer createContextual(DeserializationContext ctxt, BeanProperty property) throws JsonMappingException {
+        if (!(delegate instanceof ContextualKeyDeserializer contextual)) {
+            return this;
+        }
+        KeyDeserializer resolved = contextual.createContextual(ctxt, property);
+        return resolved == delegate ? this : new CachingKeyDeserializer(resolved, maxEntries);
+    }
+
+    @Override
+    public Object deserializeKey(String key, DeserializationContext ctxt) throws IOException {
+        LRUMap<String, Object> keys = keys(ctxt.getConfig());
+        Object value = keys.get(key);
+        if (value == null) {
+            value = delegate.deserializeKey(key, ctxt);
+            // 不缓存 null，交给调用方按原本的方式处理
+            if (value != null) {
+                keys.put(key, value);
+            }
+        }
+        return value;
+    }
+
+    private LRUMap<String, Object> keys(DeserializationConfig config) {
+        Cache current = cache;
+        if (current != null && current.config() == config) {
+            return current.keys();
+        }
+        Map<KeySettings, LRUMap<String, Object>> all = caches;
+        if (all == null) {
+            all = new ConcurrentHashMap<>();
+            caches = all;
+        }
+        KeySettings settings = KeySettings.of(config);
+        LRUMap<String, Object> keys = all.get(settings);
+        if (keys == null) {
+            if (all.size() >= MAX_SETTINGS) {
+                all.clear();
+            }
+            keys = all.computeIfAbsent(settings, k -> new LRUMap<>(Math.min(16, maxEntries), maxEntries));
+        }
+        cache = new Cache(config, keys);
+        return keys;
+    }
+
+    /**
+     * 最近一次使用的配置下缓存的 key 数量
+     */
+    public int size() {
+        Cache current = cache;
+        return current == null ? 0 : current.keys().size();
+    }
+
+    private record Cache(DeserializationConfig config, LRUMap<String, Object> keys) {
+    }
+}
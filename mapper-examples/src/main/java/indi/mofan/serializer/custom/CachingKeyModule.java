@@ -0,0 +1,58 @@
+package indi.mofan.serializer.custom;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.KeyDeserializer;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerModifier;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+
+import java.io.Serial;
+import java.util.Set;
+
+/**
+ * 为指定的不可变 key 类型包装 {@link CachingKeySerializer} 和 {@link CachingKeyDeserializer}。
+ * <p>
+ * 包装的是类型级别的 key (反)序列化器，即 {@link SimpleModule#addKeySerializer} 注册的或 Jackson 默认的；
+ * 属性上 {@code @JsonSerialize(keyUsing = ...)} 指定的不经过这里，需要时直接使用两个包装类。
+ *
+ * @author mofan
+ * @date 2026/10/18 21:20
+ */
+public class CachingKeyModule extends SimpleModule {
+    @Serial
+    private static final long serialVersionUID = 5816214926376094388L;
+
+    public CachingKeyModule(int maxEntries, Class<?>... keyTypes) {
+        super(CachingKeyModule.class.getSimpleName());
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("maxEntries must be positive: " + maxEntries);
+        }
+        Set<Class<?>> types = Set.of(keyTypes);
+        setSerializerModifier(new BeanSerializerModifier() {
+            @Serial
+            private static final long serialVersionUID = -2915437610482251937L;
+
+            @Override
+            public JsonSerializer<?> modifyKeySerializer(SerializationConfig config, JavaType valueType,
+                                                         BeanDescription beanDesc, JsonSerializer<?> serializer) {
+                return types.contains(valueType.getRawClass())
+                        ? new CachingKeySerializer(serializer, maxEntries) : serializer;
+            }
+        });
+        setDeserializerModifier(new BeanDeserializerModifier() {
+            @Serial
+            private static final long serialVersionUID = 3658104092471958215L;
+
+            @Override
+            public KeyDeserializer modifyKeyDeserializer(DeserializationConfig config, JavaType type,
+                                                         KeyDeserializer deserializer) {
+                return types.contains(type.getRawClass())
+                        ? new CachingKeyDeserializer(deserializer, maxEntries) : deserializer;
+            }
+        });
+    }
+}
@@ -0,0 +1,135 @@
+package indi.mofan.serializer.custom;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.databind.util.LRUMap;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import java.io.IOException;
+import java.io.Serial;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 包装 Map 的 key 序列化器，缓存 key 对象到编码后字段名的映射，重复的 key 只需查一次表。
+ * <p>
+ * 未命中时让原本的序列化器写入 TokenBuffer，取出它写的字段名后缓存为 {@link SerializedString}，
+ * 因此任何只调用 writeFieldName 的 key 序列化器都可以被包装。
+ * <p>
+ * 缓存按 equals / hashCode 查找，容量有上限（与 Jackson 内部缓存一样使用 {@link LRUMap}），
+ * 只适用于不可变、或者作为 key 使用期间不会修改的类型。
+ * <p>
+ * 序列化器在同一个 ObjectMapper 的所有 ObjectWriter 之间共用，而 key 的写法可能随配置变化
+ * （例如 WRITE_DATE_KEYS_AS_TIMESTAMPS），因此按 {@link KeySettings} 为每组配置保留一个缓存，
+ * 最多 {@value #MAX_SETTINGS} 组，超过后全部丢弃重新开始。
+ *
+ * @author mofan
+ * @date 2026/10/18 21:00
+ */
+public class CachingKeySerializer extends StdSerializer<Object> implements ContextualSerializer {
+    @Serial
+    private static final long serialVersionUID = 2479531096482185357L;
+
+    private static final int MAX_SETTINGS = 8;
+
+    private final JsonSerializer<Object> delegate;
+    private final int maxEntries;
+    /**
+     * 最近一次使用的配置实例及其缓存，同一个 ObjectWriter 不需要每次计算 KeySettings
+     */
+    private transient volatile Cache cache;
+    private transient volatile Map<KeySettings, LRUMap<Object, SerializableString>> caches;
+
+    @SuppressWarnings("unchecked")
+    public CachingKeySerializer(JsonSerializer<?> delegate, int maxEntries) {
+        super(Object.class);
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("maxEntries must be positive: " + maxEntries);
+        }
+        this.delegate = (JsonSerializer<Object>) delegate;
+        this.maxEntries = maxEntries;
+    }
+
+    @Override
+    public JsonSerializer<?> createContextual(SerializerProvider prov, BeanProperty property) throws JsonMappingException {
+        JsonSerializer<?> contextual = prov.handleSecondaryContextualization(delegate, property);
+        // 上下文化后是同一个序列化器时继续共用缓存
+        return contextual == delegate ? this : new CachingKeySerializer(contextual, maxEntries);
+    }
+
+    @Override
+    public void serialize(Object value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        LRUMap<Object, SerializableString> names = names(provider.getConfig());
+        SerializableString name = names.get(value);
+        if (name == null) {
+            name = render(value, gen, provider);
+            names.put(value, name);
+        }
+        gen.writeFieldName(name);
+    }
+
+    private LRUMap<Object, SerializableString> names(SerializationConfig config) {
+        Cache current = cache;
+        // SerializationConfig 不可变，同一个 ObjectWriter 始终使用同一个实例
+        if (current != null && current.config() == config) {
+            return current.names();
+        }
+        Map<KeySettings, LRUMap<Object, SerializableString>> all = caches;
+        if (all == null) {
+            all = new ConcurrentHashMap<>();
+            caches = all;
+        }
+        KeySettings settings = KeySettings.of(config);
+        LRUMap<Object, SerializableString> names = all.get(settings);
+        if (names == null) {
+            if (all.size() >= MAX_SETTINGS) {
+                all.clear();
+            }
+            names = all.computeIfAbsent(settings, k -> new LRUMap<>(Math.min(16, maxEntries), maxEntries));
+        }
+        cache = new Cache(config, names);
+        return names;
+    }
+
+    private SerializableString render(Object value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        try (TokenBuffer buffer = new TokenBuffer(gen.getCodec(), false)) {
+            // 字段名只能出现在对象中
+            buffer.writeStartObject();
+            delegate.serialize(value, buffer, provider);
+            buffer.writeEndObject();
+            try (JsonParser p = buffer.asParser()) {
+                p.nextToken();
+                if (p.nextToken() != JsonToken.FIELD_NAME) {
+                    provider.reportMappingProblem("Key serializer %s did not write a field name for %s",
+                            delegate.getClass().getName(), value.getClass().getName());
+                    return null;
+                }
+                SerializedString name = new SerializedString(p.currentName());
+                name.asQuotedUTF8();
+                name.asQuotedChars();
+                return name;
+            }
+        }
+    }
+
+    /**
+     * 最近一次使用的配置下缓存的 key 数量
+     */
+    public int size() {
+        Cache current = cache;
+        return current == null ? 0 : current.names().size();
+    }
+
+    private record Cache(SerializationConfig config, LRUMap<Object, SerializableString> names) {
+    }
+}
@@ -0,0 +1,158 @@
+package indi.mofan.serializer.custom;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerBase;
+import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
+import com.fasterxml.jackson.databind.deser.SettableBeanProperty;
+import com.fasterxml.jackson.databind.deser.ValueInstantiator;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+
+import java.io.IOException;
+import java.io.Serial;
+import java.util.ArrayList;
+import java.util.List;
+
+import static indi.mofan.serializer.custom.ColumnarListSerializer.COLUMNS;
+import static indi.mofan.serializer.custom.ColumnarListSerializer.DICT;
+import static indi.mofan.serializer.custom.ColumnarListSerializer.INDEX;
+import static indi.mofan.serializer.custom.ColumnarListSerializer.SIZE;
+
+/**
+ * 读取 {@link ColumnarListSerializer} 输出的按列格式，逐个 token 还原为 ArrayList。
+ * <p>
+ * 逐列读取字典，并按下标数组把字典中的值设置到对应元素上，元素在第一列中按需通过无参构造创建。
+ * 每一列的下标数量必须等于 size，下标必须在字典范围内。
+ * 每个字典值只反序列化一次，同一列中取值相同的元素共享同一个实例。
+ *
+ * @author mofan
+ * @date 2026/10/18 17:50
+ */
+public class ColumnarListDeserializer extends StdDeserializer<List<Object>> implements ContextualDeserializer {
+    @Serial
+    private static final long serialVersionUID = 1722541064325187452L;
+
+    private final JavaType elementType;
+
+    public ColumnarListDeserializer() {
+        this(null);
+    }
+
+    public ColumnarListDeserializer(JavaType elementType) {
+        super(List.class);
+        this.elementType = elementType;
+    }
+
+    @Override
+    public JsonDeserializer<?> createContextual(DeserializationContext ctxt, BeanProperty property) throws JsonMappingException {
+        if (elementType != null) {
+            return this;
+        }
+        if (property == null || !property.getType().isCollectionLikeType()) {
+            return ctxt.reportBadDefinition(List.class, "ColumnarListDeserializer requires a List property with a known element type");
+        }
+        return new ColumnarListDeserializer(property.getType().getContentType());
+    }
+
+    @Override
+    public List<Object> deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        if (!(ctxt.findRootValueDeserializer(elementType) instanceof BeanDeserializerBase bean)) {
+            return ctxt.reportBadDefinition(elementType, "Columnar list elements must be plain beans");
+        }
+        ValueInstantiator instantiator = bean.getValueInstantiator();
+        if (!instantiator.canCreateUsingDefault()) {
+            return ctxt.reportBadDefinition(bean.getValueType(), "Columnar list elements need a default constructor");
+        }
+        if (!p.isExpectedStartObjectToken()) {
+            return ctxt.reportInputMismatch(this, "Expected START_OBJECT for a columnar list, got %s", p.currentToken());
+        }
+
+        int size = -1;
+        // 元素在读取第一列的下标时逐个创建，size 来自输入，不能直接按它分配
+        List<Object> elements = new ArrayList<>();
+        for (String name = p.nextFieldName(); name != null; name = p.nextFieldName()) {
+            JsonToken token = p.nextToken();
+            switch (name) {
+                case SIZE -> {
+                    if (token != JsonToken.VALUE_NUMBER_INT || p.getNumberType() != JsonParser.NumberType.INT
+                        || p.getIntValue() < 0) {
+                        return ctxt.reportInputMismatch(this, "'%s' must be a non-negative int, got %s", SIZE, p.getText());
+                    }
+                    size = p.getIntValue();
+                }
+                case COLUMNS -> {
+                    if (size < 0) {
+                        return ctxt.reportInputMismatch(this, "'%s' must come before '%s'", SIZE, COLUMNS);
+                    }
+                    for (String column = p.nextFieldName(); column != null; column = p.nextFieldName()) {
+                        p.nextToken();
+                        SettableBeanProperty property = bean.findProperty(column);
+                        if (property == null) {
+                            ctxt.handleUnknownProperty(p, this, elementType.getRawClass(), column);
+                            continue;
+                        }
+                        readColumn(p, ctxt, property, instantiator, elements, size);
+                    }
+                }
+                default -> ctxt.handleUnknownProperty(p, this, List.class, name);
+            }
+        }
+        if (elements.size() != Math.max(size, 0)) {
+            // 每一列的长度都已检查过，这里只可能是 size 大于 0 却没有任何列
+            return ctxt.reportInputMismatch(this, "Columnar list of size %d has no columns", size);
+        }
+        return elements;
+    }
+
+    private void readColumn(JsonParser p, DeserializationContext ctxt, SettableBeanProperty property,
+                            ValueInstantiator instantiator, List<Object> elements, int size) throws IOException {
+        List<Object> dict = null;
+        int count = -1;
+        for (String name = p.nextFieldName(); name != null; name = p.nextFieldName()) {
+            JsonToken token = p.nextToken();
+            switch (name) {
+                case DICT -> {
+                    if (token != JsonToken.START_ARRAY) {
+                        ctxt.reportInputMismatch(this, "Column '%s' must have a '%s' array, found %s",
+                                property.getName(), DICT, token);
+                    }
+                    dict = new ArrayList<>();
+                    while (p.nextToken() != JsonToken.END_ARRAY) {
+                        dict.add(property.deserialize(p, ctxt));
+                    }
+                }
+                case INDEX -> {
+                    if (dict == null || token != JsonToken.START_ARRAY) {
+                        ctxt.reportInputMismatch(this, "Column '%s' must have '%s' before an '%s' array",
+                                property.getName(), DICT, INDEX);
+                    }
+                    count = 0;
+                    while (p.nextToken() != JsonToken.END_ARRAY) {
+                        if (count >= size) {
+                            ctxt.reportInputMismatch(this, "Column '%s' has more than %d values", property.getName(), size);
+                        }
+                        int position = p.hasToken(JsonToken.VALUE_NUMBER_INT)
+                                       && p.getNumberType() == JsonParser.NumberType.INT ? p.getIntValue() : -1;
+                        if (position < 0 || position >= dict.size()) {
+                            ctxt.reportInputMismatch(this, "Column '%s' has an invalid dictionary index %s at %d",
+                                    property.getName(), p.getText(), count);
+                        }
+                        if (count == elements.size()) {
+                            elements.add(instantiator.createUsingDefault(ctxt));
+                        }
+                        property.set(elements.get(count++), dict.get(position));
+                    }
+                }
+                default -> p.skipChildren();
+            }
+        }
+        if (count != size) {
+            ctxt.reportInputMismatch(this, "Column '%s' has %d values, expected %d", property.getName(), Math.max(count, 0), size);
+        }
+    }
+}
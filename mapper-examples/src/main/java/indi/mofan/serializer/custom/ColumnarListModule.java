@@ -0,0 +1,68 @@
+package indi.mofan.serializer.custom;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.jsontype.TypeDeserializer;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.module.SimpleDeserializers;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.module.SimpleSerializers;
+import com.fasterxml.jackson.databind.type.CollectionType;
+
+import java.io.Serial;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 对指定元素类型的 List（包括根对象）启用按列格式，见 {@link ColumnarListSerializer}
+ *
+ * @author mofan
+ * @date 2026/10/18 18:05
+ */
+public class ColumnarListModule extends SimpleModule {
+    @Serial
+    private static final long serialVersionUID = -1606592851574264563L;
+
+    public ColumnarListModule(Class<?>... elementTypes) {
+        super(ColumnarListModule.class.getSimpleName());
+        Set<Class<?>> types = Set.of(elementTypes);
+        setSerializers(new SimpleSerializers() {
+            @Serial
+            private static final long serialVersionUID = 3012437045722896541L;
+
+            @Override
+            public JsonSerializer<?> findCollectionSerializer(SerializationConfig config, CollectionType type,
+                                                              BeanDescription beanDesc,
+                                                              TypeSerializer elementTypeSerializer,
+                                                              JsonSerializer<Object> elementValueSerializer) {
+                if (List.class.isAssignableFrom(type.getRawClass())
+                    && types.contains(type.getContentType().getRawClass())) {
+                    return new ColumnarListSerializer(type.getContentType());
+                }
+                return super.findCollectionSerializer(config, type, beanDesc, elementTypeSerializer, elementValueSerializer);
+            }
+        });
+        setDeserializers(new SimpleDeserializers() {
+            @Serial
+            private static final long serialVersionUID = 8311469384398224086L;
+
+            @Override
+            public JsonDeserializer<?> findCollectionDeserializer(CollectionType type, DeserializationConfig config,
+                                                                  BeanDescription beanDesc,
+                                                                  TypeDeserializer elementTypeDeserializer,
+                                                                  JsonDeserializer<?> elementDeserializer) throws JsonMappingException {
+                // 读取结果为 ArrayList
+                if (type.getRawClass().isAssignableFrom(ArrayList.class)
+                    && types.contains(type.getContentType().getRawClass())) {
+                    return new ColumnarListDeserializer(type.getContentType());
+                }
+                return super.findCollectionDeserializer(type, config, beanDesc, elementTypeDeserializer, elementDeserializer);
+            }
+        });
+    }
+}
@@ -0,0 +1,159 @@
+package indi.mofan.serializer.custom;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.io.Serial;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 将只包含简单属性的 POJO 列表按列输出，每一列由字典和下标数组组成：
+ * <pre>{@code
+ * {
+ *   "size": 3,
+ *   "columns": {
+ *     "color": {"dict": ["Black", "Red"], "index": [0, 1, 0]},
+ *     "type": {"dict": ["BMW", "FIAT"], "index": [0, 1, 1]}
+ *   }
+ * }
+ * }</pre>
+ * 列与 Jackson 为元素类型解析出的属性一致（@JsonProperty、@JsonIgnore 等依旧生效），取值重复度高时体积明显小于对象数组。
+ * <p>
+ * 在 List 属性上通过 {@code @JsonSerialize(using = ColumnarListSerializer.class)} 使用，或者通过 {@link ColumnarListModule} 注册。
+ * 读取使用 {@link ColumnarListDeserializer}。
+ *
+ * @author mofan
+ * @date 2026/10/18 17:30
+ */
+public class ColumnarListSerializer extends StdSerializer<List<?>> implements ContextualSerializer {
+    @Serial
+    private static final long serialVersionUID = -4406458851373457416L;
+
+    static final String SIZE = "size";
+    static final String COLUMNS = "columns";
+    static final String DICT = "dict";
+    static final String INDEX = "index";
+
+    /**
+     * 元素类型，通过注解使用时在 {@link #createContextual} 中从属性类型获取
+     */
+    private final JavaType elementType;
+
+    public ColumnarListSerializer() {
+        this(null);
+    }
+
+    public ColumnarListSerializer(JavaType elementType) {
+        super(List.class, false);
+        this.elementType = elementType;
+    }
+
+    @Override
+    public JsonSerializer<?> createContextual(SerializerProvider prov, BeanProperty property) throws JsonMappingException {
+        if (elementType != null) {
+            return this;
+        }
+        if (property == null || !property.getType().isCollectionLikeType()) {
+            return prov.reportBadDefinition(List.class, "ColumnarListSerializer requires a List property with a known element type");
+        }
+        return new ColumnarListSerializer(property.getType().getContentType());
+    }
+
+    @Override
+    public void serialize(List<?> value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        List<BeanPropertyWriter> columns = columns(provider);
+        int size = value.size();
+
+        gen.writeStartObject(value);
+        gen.writeNumberField(SIZE, size);
+        gen.writeObjectFieldStart(COLUMNS);
+        for (BeanPropertyWriter column : columns) {
+            Map<Object, Integer> positions = new HashMap<>();
+            List<Object> dict = new ArrayList<>();
+            int[] index = new int[size];
+            for (int i = 0; i < size; i++) {
+                Object element = value.get(i);
+                if (element == null) {
+                    provider.reportMappingProblem("Columnar list cannot contain null elements (index %d)", i);
+                }
+                Object cell = get(column, element, provider);
+                Integer position = positions.get(cell);
+                if (position == null) {
+                    position = dict.size();
+                    positions.put(cell, position);
+                    dict.add(cell);
+                }
+                index[i] = position;
+            }
+
+            gen.writeObjectFieldStart(column.getName());
+            gen.writeArrayFieldStart(DICT);
+            for (Object cell : dict) {
+                writeCell(column, cell, gen, provider);
+            }
+            gen.writeEndArray();
+            gen.writeFieldName(INDEX);
+            gen.writeArray(index, 0, size);
+            gen.writeEndObject();
+        }
+        gen.writeEndObject();
+        gen.writeEndObject();
+    }
+
+    private List<BeanPropertyWriter> columns(SerializerProvider provider) throws JsonMappingException {
+        List<BeanPropertyWriter> columns = new ArrayList<>();
+        Iterator<PropertyWriter> properties = provider.findValueSerializer(elementType).properties();
+        while (properties.hasNext()) {
+            if (!(properties.next() instanceof BeanPropertyWriter writer)) {
+                return provider.reportBadDefinition(elementType, "Columnar list elements must be plain beans");
+            }
+            columns.add(writer);
+        }
+        return columns;
+    }
+
+    /**
+     * 与普通 Bean 属性一样使用属性上解析好的序列化器，属性上的 @JsonSerialize、@JsonFormat 等注解依旧生效
+     */
+    private static void writeCell(BeanPropertyWriter column, Object cell, JsonGenerator gen,
+                                  SerializerProvider provider) throws IOException {
+        if (cell == null) {
+            gen.writeNull();
+            return;
+        }
+        JsonSerializer<Object> serializer = column.getSerializer();
+        if (serializer == null) {
+            serializer = provider.findValueSerializer(cell.getClass(), column);
+        }
+        TypeSerializer typeSerializer = column.getTypeSerializer();
+        if (typeSerializer == null) {
+            serializer.serialize(cell, gen, provider);
+        } else {
+            serializer.serializeWithType(cell, gen, provider, typeSerializer);
+        }
+    }
+
+    private static Object get(BeanPropertyWriter column, Object element, SerializerProvider provider) throws IOException {
+        try {
+            return column.get(element);
+        } catch (IOException e) {
+            throw e;
+        } catch (Exception e) {
+            throw JsonMappingException.from(provider, "Failed to read property '" + column.getName() + "'", e);
+        }
+    }
+}
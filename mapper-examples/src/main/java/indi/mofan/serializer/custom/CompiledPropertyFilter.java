@@ -0,0 +1,177 @@
+package indi.mofan.serializer.custom;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * 声明式的 PropertyFilter，可以直接注册到 SimpleFilterProvider 中：
+ * <pre>{@code
+ * PropertyFilter filter = CompiledPropertyFilter.rules()
+ *         .includeIf(MyDto.class, "intValue", (Integer v) -> v >= 0)
+ *         .exclude(MyDto.class, "secret")
+ *         .compile();
+ * }</pre>
+ * 规则在 {@link Rules#compile()} 时按属性名整理好，每个 Bean 类型第一次序列化时再筛选出对它生效的规则，
+ * 之后按 (Bean 类型, 属性名) 查找，不再逐条匹配规则。编译结果通过 {@link ClassValue} 挂在类型上，
+ * 不持有 PropertyWriter 或配置，ObjectMapper 丢弃后不会被过滤器留住。
+ * <p>
+ * 按数组输出（如 {@code @JsonFormat(shape = ARRAY)}）时，被过滤的元素写成 null 以保持下标不变。
+ * Jackson 自带的 BeanAsArraySerializer 不会调用 PropertyFilter，只有按元素调用过滤器的序列化器会经过这里。
+ * <p>
+ * 一个属性同时命中多条规则时，任一 exclude 生效即不输出，所有 includeIf 都满足才输出。
+ * 规则对指定类型及其子类生效。
+ *
+ * @author mofan
+ * @date 2026/10/18 22:30
+ */
+public class CompiledPropertyFilter extends SimpleBeanPropertyFilter {
+    private final List<Rule> rules;
+
+    /**
+     * 每个 Bean 类型一份，属性名到编译后规则的映射
+     */
+    private final ClassValue<Map<String, Test>> byClass = new ClassValue<>() {
+        @Override
+        protected Map<String, Test> computeValue(Class<?> beanClass) {
+            return compile(beanClass);
+        }
+    };
+
+    private CompiledPropertyFilter(List<Rule> rules) {
+        this.rules = rules;
+    }
+
+    public static Rules rules() {
+        return new Rules();
+    }
+
+    @Override
+    public void serializeAsField(Object pojo, JsonGenerator gen, SerializerProvider provider,
+                                 PropertyWriter writer) throws Exception {
+        if (include(pojo, writer)) {
+            writer.serializeAsField(pojo, gen, provider);
+        } else if (!gen.canOmitFields()) {
+            writer.serializeAsOmittedField(pojo, gen, provider);
+        }
+    }
+
+    @Override
+    public void serializeAsElement(Object pojo, JsonGenerator gen, SerializerProvider provider,
+                                   PropertyWriter writer) throws Exception {
+        if (include(pojo, writer)) {
+            writer.serializeAsElement(pojo, gen, provider);
+        } else {
+            // 数组中的位置不能省略
+            gen.writeNull();
+        }
+    }
+
+    private boolean include(Object pojo, PropertyWriter writer) throws Exception {
+        return byClass.get(pojo.getClass()).getOrDefault(writer.getName(), Test.ALWAYS).include(pojo, writer);
+    }
+
+    private Map<String, Test> compile(Class<?> beanClass) {
+        Map<String, List<Rule>> matched = new HashMap<>();
+        for (Rule rule : rules) {
+            if (rule.type.isAssignableFrom(beanClass)) {
+                matched.computeIfAbsent(rule.property, k -> new ArrayList<>()).add(rule);
+            }
+        }
+        Map<String, Test> tests = new HashMap<>(matched.size() * 2);
+        matched.forEach((property, list) -> tests.put(property, Test.of(list)));
+        return tests;
+    }
+
+    /**
+     * 编译后的规则：NEVER 不输出，predicate 为 null 时总是输出，否则按属性值判断
+     */
+    private static final class Test {
+        static final Test ALWAYS = new Test(null);
+        static final Test NEVER = new Test(null);
+
+        private final Predicate<Object> predicate;
+
+        private Test(Predicate<Object> predicate) {
+            this.predicate = predicate;
+        }
+
+        static Test of(List<Rule> rules) {
+            Predicate<Object> combined = null;
+            for (Rule rule : rules) {
+                if (rule.predicate == null) {
+                    return NEVER;
+                }
+                combined = combined == null ? rule.predicate : combined.and(rule.predicate);
+            }
+            return combined == null ? ALWAYS : new Test(combined);
+        }
+
+        boolean include(Object pojo, PropertyWriter writer) throws Exception {
+            if (this == NEVER) {
+                return false;
+            }
+            // 取值判断只支持普通的 Bean 属性，其他 PropertyWriter 保持输出
+            return predicate == null
+                   || !(writer instanceof BeanPropertyWriter property)
+                   || predicate.test(property.get(pojo));
+        }
+    }
+
+    /**
+     * predicate 为 null 表示排除
+     */
+    private record Rule(Class<?> type, String property, Predicate<Object> predicate) {
+    }
+
+    /**
+     * 收集规则，{@link #compile()} 后得到过滤器
+     */
+    public static final class Rules {
+        private final List<Rule> rules = new ArrayList<>();
+
+        private Rules() {
+        }
+
+        /**
+         * 所有类型都不输出这些属性
+         */
+        public Rules exclude(String... properties) {
+            return exclude(Object.class, properties);
+        }
+
+        public Rules exclude(Class<?> type, String... properties) {
+            return exclude(type, Set.copyOf(Arrays.asList(properties)));
+        }
+
+        public Rules exclude(Class<?> type, Set<String> properties) {
+            for (String property : properties) {
+                rules.add(new Rule(type, property, null));
+            }
+            return this;
+        }
+
+        /**
+         * 属性值满足条件时才输出，属性值可能为 null
+         */
+        @SuppressWarnings("unchecked")
+        public <V> Rules includeIf(Class<?> type, String property, Predicate<? super V> predicate) {
+            rules.add(new Rule(type, property, value -> ((Predicate<Object>) predicate).test(value)));
+            return this;
+        }
+
+        public CompiledPropertyFilter compile() {
+            return new CompiledPropertyFilter(List.copyOf(rules));
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package indi.mofan.serializer.custom;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.PropertyName;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+/**
+ * 按条件跳过整个对象属性：在写出字段名之前先判断属性值，满足条件时字段名和整个子树都不输出。
+ * <pre>{@code
+ * new ConditionalObjectModule().skipIf(Hidable.class, Hidable::isHidden)
+ * }</pre>
+ * 与 HidableSerializer 配合 NON_EMPTY 的方式相比，不需要修改全局的包含规则，也不需要包装类型本身的序列化器。
+ * <p>
+ * 只作用于 Bean 的属性，集合元素和根对象不受影响。Bean 按数组输出（{@code @JsonFormat(shape = ARRAY)}）时，
+ * 跳过的属性写成 null 以保持下标不变。{@link #stats()} 按属性值的实际类型统计跳过和输出的次数。
+ *
+ * @author mofan
+ * @date 2026/10/18 22:50
+ */
+public class ConditionalObjectModule extends SimpleModule {
+    @Serial
+    private static final long serialVersionUID = 3286951047712450581L;
+
+    private final List<Condition> conditions = new ArrayList<>();
+    private final Stats stats = new Stats();
+
+    public ConditionalObjectModule() {
+        super(ConditionalObjectModule.class.getSimpleName());
+        setSerializerModifier(new BeanSerializerModifier() {
+            @Serial
+            private static final long serialVersionUID = -1804732861938210744L;
+
+            @Override
+            public List<BeanPropertyWriter> changeProperties(SerializationConfig config,
+                                                             BeanDescription beanDesc,
+                                                             List<BeanPropertyWriter> beanProperties) {
+                for (int i = 0; i < beanProperties.size(); i++) {
+                    BeanPropertyWriter writer = beanProperties.get(i);
+                    Class<?> declared = writer.getType().getRawClass();
+                    for (Condition condition : conditions) {
+                        // 声明为父类型（如 Object）的属性也可能持有目标类型
+                        if (condition.type.isAssignableFrom(declared) || declared.isAssignableFrom(condition.type)) {
+                            beanProperties.set(i, new ConditionalObjectWriter(writer, condition, stats));
+                            break;
+                        }
+                    }
+                }
+                return beanProperties;
+            }
+        });
+    }
+
+    /**
+     * 属性值是 type 的实例且满足 hidden 时跳过，需要在注册模块之前调用
+     */
+    @SuppressWarnings("unchecked")
+    public <T> ConditionalObjectModule skipIf(Class<T> type, Predicate<? super T> hidden) {
+        conditions.add(new Condition(type, (Predicate<Object>) hidden));
+        return this;
+    }
+
+    public Stats stats() {
+        return stats;
+    }
+
+    private record Condition(Class<?> type, Predicate<Object> hidden) implements Serializable {
+    }
+
+    static class ConditionalObjectWriter extends BeanPropertyWriter {
+        @Serial
+        private static final long serialVersionUID = 6520144181907125083L;
+
+        private final Condition condition;
+        private final Stats stats;
+
+        ConditionalObjectWriter(BeanPropertyWriter base, Condition condition, Stats stats) {
+            super(base);
+            this.condition = condition;
+            this.stats = stats;
+        }
+
+        private ConditionalObjectWriter(BeanPropertyWriter base, PropertyName name, Condition condition, Stats stats) {
+            super(base, name);
+            this.condition = condition;
+            this.stats = stats;
+        }
+
+        @Override
+        protected BeanPropertyWriter _new(PropertyName newName) {
+            return new ConditionalObjectWriter(this, newName, condition, stats);
+        }
+
+        @Override
+        public void serializeAsField(Object bean, JsonGenerator gen, SerializerProvider prov) throws Exception {
+            if (!skip(bean)) {
+                // 父类会再读取一次属性值，只多一次 getter 调用
+                super.serializeAsField(bean, gen, prov);
+            }
+        }
+
+        @Override
+        public void serializeAsElement(Object bean, JsonGenerator gen, SerializerProvider prov) throws Exception {
+            if (skip(bean)) {
+                // 数组中的位置不能省略
+                serializeAsPlaceholder(bean, gen, prov);
+            } else {
+                super.serializeAsElement(bean, gen, prov);
+            }
+        }
+
+        private boolean skip(Object bean) throws Exception {
+            Object value = get(bean);
+            if (value != null && condition.type.isInstance(value)) {
+                if (condition.hidden.test(value)) {
+                    stats.counter(value.getClass()).skipped.increment();
+                    return true;
+                }
+                stats.counter(value.getClass()).written.increment();
+            }
+            return false;
+        }
+    }
+
+    /**
+     * 按属性值的实际类型统计跳过和输出的对象数量
+     */
+    public static final class Stats implements Serializable {
+        @Serial
+        private static final long serialVersionUID = -4475210980863321657L;
+
+        private final ConcurrentMap<Class<?>, Counter> counters = new ConcurrentHashMap<>();
+
+        private Counter counter(Class<?> type) {
+            Counter counter = counters.get(type);
+            return counter != null ? counter : counters.computeIfAbsent(type, k -> new Counter());
+        }
+
+        public long skipped(Class<?> type) {
+            Counter counter = counters.get(type);
+            return counter == null ? 0L : counter.skipped.sum();
+        }
+
+        public long written(Class<?> type) {
+            Counter counter = counters.get(type);
+            return counter == null ? 0L : counter.written.sum();
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder builder = new StringBuilder();
+            for (Map.Entry<Class<?>, Counter> entry : counters.entrySet()) {
+                builder.append(entry.getKey().getSimpleName())
+                        .append(": skipped=").append(entry.getValue().skipped.sum())
+                        .append(", written=").append(entry.getValue().written.sum())
+                        .append(System.lineSeparator());
+            }
+            return builder.toString();
+        }
+
+        private static final class Counter implements Serializable {
+            @Serial
+            private static final long serialVersionUID = 1719623054170463882L;
+
+            private final LongAdder skipped = new LongAdder();
+            private final LongAdder written = new LongAdder();
+        }
+    }
+}
@@ -6,7 +6,6 @@ import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
 import indi.mofan.serializer.pojo.Item;
-import indi.mofan.serializer.pojo.User;
 
 import java.io.IOException;
 import java.io.Serial;
@@ -42,11 +41,9 @@ public class ItemDeserializer extends StdDeserializer<Item> {
         JsonNode itemName = node.get("itemName");
         item.setItemName(itemName.asText());
 
-        // owner
-        User user = new User();
+        // owner，启用 OwnerInterner 时同一 id 共享一个 User
         JsonNode ownerId = node.get("owner");
-        user.setId(ownerId.asInt());
-        item.setOwner(user);
+        item.setOwner(OwnerInterner.owner(context, ownerId.asInt()));
 
         return item;
     }
@@ -0,0 +1,25 @@
+package indi.mofan.serializer.custom;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 将类中所有 boolean / Boolean 属性合并成一个整数位掩码，需要注册 {@link PackedBooleansModule}。
+ * <p>
+ * 第 i 位对应 Jackson 属性顺序（可通过 @JsonPropertyOrder 指定）中的第 i 个布尔属性，
+ * 只能反序列化的布尔属性排在最后，最多 64 个。
+ * Boolean 属性为 null 时按 false 处理。
+ *
+ * @author mofan
+ * @date 2026/10/18 20:00
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface JsonPackedBooleans {
+    /**
+     * 位掩码在 JSON 中的属性名
+     */
+    String value() default "flags";
+}
@@ -0,0 +1,175 @@
+package indi.mofan.serializer.custom;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerBase;
+import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
+import com.fasterxml.jackson.databind.deser.ResolvableDeserializer;
+import com.fasterxml.jackson.databind.deser.SettableBeanProperty;
+import com.fasterxml.jackson.databind.deser.ValueInstantiator;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+
+import java.io.IOException;
+import java.io.Serial;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 按 {@link JsonPointerPath} 一次遍历 token 流，把嵌套的值直接设置到扁平对象上，不构建 JsonNode 或 Map。
+ * <p>
+ * 所有路径编译成一棵按属性名分支的前缀树：字段名不在树上的子树直接通过 skipChildren 跳过，
+ * 到达叶子时交给对应 SettableBeanProperty 的反序列化器读取。
+ * 不在任何路径上的字段都会被忽略，不受 FAIL_ON_UNKNOWN_PROPERTIES 影响。
+ * <p>
+ * 对象需要无参构造，不支持 @JsonCreator 参数。
+ *
+ * @author mofan
+ * @date 2026/10/19 09:10
+ */
+public class JsonPointerDeserializer extends StdDeserializer<Object> implements ContextualDeserializer, ResolvableDeserializer {
+    @Serial
+    private static final long serialVersionUID = -5361893472096405142L;
+
+    private final BeanDeserializerBase delegate;
+
+    /**
+     * 属性名到 JSON Pointer 的映射
+     */
+    private final Map<String, JsonPointer> pointers;
+
+    /**
+     * 第一次读取时根据 delegate 中 resolve 完成的属性生成
+     */
+    private transient volatile Node root;
+
+    public JsonPointerDeserializer(BeanDeserializerBase delegate, Map<String, JsonPointer> pointers) {
+        super(delegate.getValueType());
+        this.delegate = delegate;
+        this.pointers = pointers;
+    }
+
+    @Override
+    public void resolve(DeserializationContext ctxt) throws JsonMappingException {
+        delegate.resolve(ctxt);
+    }
+
+    @Override
+    public JsonDeserializer<?> createContextual(DeserializationContext ctxt, BeanProperty property) throws JsonMappingException {
+        JsonDeserializer<?> contextual = delegate.createContextual(ctxt, property);
+        if (contextual == delegate || !(contextual instanceof BeanDeserializerBase bean)) {
+            return this;
+        }
+        return new JsonPointerDeserializer(bean, pointers);
+    }
+
+    @Override
+    public Object deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        JsonToken token = p.currentToken();
+        if (token != JsonToken.START_OBJECT && token != JsonToken.FIELD_NAME) {
+            return ctxt.handleUnexpectedToken(handledType(), p);
+        }
+        ValueInstantiator instantiator = delegate.getValueInstantiator();
+        if (!instantiator.canCreateUsingDefault()) {
+            return ctxt.reportBadDefinition(delegate.getValueType(), "@JsonPointerPath requires a default constructor");
+        }
+        return readInto(p, ctxt, token, instantiator.createUsingDefault(ctxt));
+    }
+
+    /**
+     * readerForUpdating 时把路径上的值设置到已有对象上，不在路径上的属性保持不变
+     */
+    @Override
+    public Object deserialize(JsonParser p, DeserializationContext ctxt, Object intoValue) throws IOException {
+        JsonToken token = p.currentToken();
+        if (token != JsonToken.START_OBJECT && token != JsonToken.FIELD_NAME) {
+            return ctxt.handleUnexpectedToken(handledType(), p);
+        }
+        return readInto(p, ctxt, token, intoValue);
+    }
+
+    @Override
+    public Boolean supportsUpdate(DeserializationConfig config) {
+        return Boolean.TRUE;
+    }
+
+    private Object readInto(JsonParser p, DeserializationContext ctxt, JsonToken token, Object bean) throws IOException {
+        // 缓冲或多态处理后，当前 token 可能已经是第一个字段名
+        String name = token == JsonToken.START_OBJECT ? p.nextFieldName() : p.currentName();
+        readObject(p, ctxt, root(), bean, name);
+        return bean;
+    }
+
+    private void readObject(JsonParser p, DeserializationContext ctxt, Node node, Object bean, String first) throws IOException {
+        for (String name = first; name != null; name = p.nextFieldName()) {
+            JsonToken token = p.nextToken();
+            Node child = node.children.get(name);
+            if (child == null) {
+                p.skipChildren();
+            } else {
+                readValue(p, ctxt, child, bean, token);
+            }
+        }
+    }
+
+    private void readArray(JsonParser p, DeserializationContext ctxt, Node node, Object bean) throws IOException {
+        int index = 0;
+        for (JsonToken token = p.nextToken(); token != JsonToken.END_ARRAY; token = p.nextToken(), index++) {
+            Node child = node.children.get(Integer.toString(index));
+            if (child == null) {
+                p.skipChildren();
+            } else {
+                readValue(p, ctxt, child, bean, token);
+            }
+        }
+    }
+
+    private void readValue(JsonParser p, DeserializationContext ctxt, Node node, Object bean, JsonToken token) throws IOException {
+        if (node.property != null) {
+            node.property.deserializeAndSet(p, ctxt, bean);
+        } else if (token == JsonToken.START_OBJECT) {
+            readObject(p, ctxt, node, bean, p.nextFieldName());
+        } else if (token == JsonToken.START_ARRAY) {
+            readArray(p, ctxt, node, bean);
+        }
+        // 路径中间遇到标量或 null 时没有可读的值
+    }
+
+    private Node root() {
+        Node node = root;
+        if (node == null) {
+            node = compile();
+            root = node;
+        }
+        return node;
+    }
+
+    private Node compile() {
+        Node tree = new Node();
+        pointers.forEach((name, pointer) -> {
+            SettableBeanProperty property = delegate.findProperty(name);
+            if (property == null) {
+                return;
+            }
+            Node node = tree;
+            for (JsonPointer ptr = pointer; !ptr.matches(); ptr = ptr.tail()) {
+                node = node.children.computeIfAbsent(ptr.getMatchingProperty(), k -> new Node());
+            }
+            node.property = property;
+        });
+        return tree;
+    }
+
+    /**
+     * 前缀树的节点，property 不为 null 时为叶子
+     */
+    private static final class Node {
+        private final Map<String, Node> children = new HashMap<>();
+        private SettableBeanProperty property;
+    }
+}
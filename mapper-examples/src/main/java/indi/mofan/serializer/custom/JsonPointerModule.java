@@ -0,0 +1,100 @@
+package indi.mofan.serializer.custom;
+
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerBase;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerModifier;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMember;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+import java.io.Serial;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 为带有 {@link JsonPointerPath} 属性的类使用 {@link JsonPointerDeserializer}，其他类保持原样
+ *
+ * @author mofan
+ * @date 2026/10/19 09:20
+ */
+public class JsonPointerModule extends SimpleModule {
+    @Serial
+    private static final long serialVersionUID = 2054189034215769631L;
+
+    public JsonPointerModule() {
+        super(JsonPointerModule.class.getSimpleName());
+        setDeserializerModifier(new BeanDeserializerModifier() {
+            @Serial
+            private static final long serialVersionUID = -7702947150286347118L;
+
+            @Override
+            public JsonDeserializer<?> modifyDeserializer(DeserializationConfig config,
+                                                          BeanDescription beanDesc,
+                                                          JsonDeserializer<?> deserializer) {
+                if (!(deserializer instanceof BeanDeserializerBase bean)) {
+                    return deserializer;
+                }
+                Map<String, JsonPointer> pointers = new LinkedHashMap<>();
+                boolean annotated = false;
+                for (BeanPropertyDefinition property : beanDesc.findProperties()) {
+                    if (!property.couldDeserialize()) {
+                        continue;
+                    }
+                    JsonPointerPath path = findPath(property);
+                    if (path == null) {
+                        pointers.put(property.getName(), JsonPointer.empty().appendProperty(property.getName()));
+                        continue;
+                    }
+                    JsonPointer pointer = JsonPointer.compile(path.value());
+                    if (pointer.matches()) {
+                        throw new IllegalArgumentException("@JsonPointerPath of '" + property.getName() + "' in "
+                                                           + beanDesc.getBeanClass() + " must not be empty");
+                    }
+                    pointers.put(property.getName(), pointer);
+                    annotated = true;
+                }
+                if (!annotated) {
+                    return deserializer;
+                }
+                checkConflicts(beanDesc, pointers);
+                return new JsonPointerDeserializer(bean, pointers);
+            }
+        });
+    }
+
+    /**
+     * 一个位置只能对应一个属性，也不能既是某个属性的值又是另一个属性路径的中间节点
+     */
+    private static void checkConflicts(BeanDescription beanDesc, Map<String, JsonPointer> pointers) {
+        List<Map.Entry<String, JsonPointer>> entries = new ArrayList<>(pointers.entrySet());
+        for (int i = 0; i < entries.size(); i++) {
+            String path = entries.get(i).getValue().toString();
+            for (int j = i + 1; j < entries.size(); j++) {
+                String other = entries.get(j).getValue().toString();
+                String conflict = path.equals(other) ? "both map to " + path
+                        : other.startsWith(path + "/") ? path + " is a prefix of " + other
+                        : path.startsWith(other + "/") ? other + " is a prefix of " + path
+                        : null;
+                if (conflict != null) {
+                    throw new IllegalArgumentException("@JsonPointerPath of '" + entries.get(i).getKey() + "' and '"
+                                                       + entries.get(j).getKey() + "' in " + beanDesc.getBeanClass()
+                                                       + " conflict: " + conflict);
+                }
+            }
+        }
+    }
+
+    private static JsonPointerPath findPath(BeanPropertyDefinition property) {
+        for (AnnotatedMember member : new AnnotatedMember[]{property.getField(), property.getSetter()}) {
+            if (member != null && member.hasAnnotation(JsonPointerPath.class)) {
+                return member.getAnnotation(JsonPointerPath.class);
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,24 @@
+package indi.mofan.serializer.custom;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 用 JSON Pointer 指定扁平字段在嵌套 JSON 中的位置，例如 {@code @JsonPointerPath("/brand/owner/name")}，
+ * 需要注册 {@link JsonPointerModule}。
+ * <p>
+ * 路径中的数字段按数组下标匹配，如 {@code /tags/0}。同一个类中没有此注解的属性按 {@code /属性名} 读取。
+ *
+ * @author mofan
+ * @date 2026/10/19 09:00
+ */
+@Target({ElementType.FIELD, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface JsonPointerPath {
+    /**
+     * 以 / 开头的 JSON Pointer
+     */
+    String value();
+}
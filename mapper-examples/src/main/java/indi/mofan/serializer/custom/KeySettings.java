@@ -0,0 +1,57 @@
+package indi.mofan.serializer.custom;
+
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.cfg.EnumFeature;
+import com.fasterxml.jackson.databind.cfg.MapperConfig;
+
+import java.text.DateFormat;
+import java.util.Locale;
+import java.util.TimeZone;
+
+/**
+ * 影响 Map key 写法的配置，{@link CachingKeySerializer} 和 {@link CachingKeyDeserializer} 按它区分缓存。
+ * <p>
+ * ObjectWriter / ObjectReader 的 with(feature)、withAttribute、withView 每次都会创建新的配置实例，
+ * 只按配置实例区分缓存时，交替使用几个 writer 会让缓存不断被丢弃。这里只比较与 key 有关的特性、
+ * 日期格式、时区和 Locale，被包装的 key (反)序列化器不能依赖其他配置。
+ *
+ * @author mofan
+ * @date 2026/10/19 17:40
+ */
+record KeySettings(int features, int enumFeatures, DateFormat dateFormat, TimeZone timeZone, Locale locale) {
+
+    private static final int SERIALIZATION_FEATURES = SerializationFeature.WRITE_DATE_KEYS_AS_TIMESTAMPS.getMask()
+                                                      | SerializationFeature.WRITE_DATES_WITH_ZONE_ID.getMask()
+                                                      | SerializationFeature.WRITE_DATES_WITH_CONTEXT_TIME_ZONE.getMask()
+                                                      | SerializationFeature.WRITE_DATE_TIMESTAMPS_AS_NANOSECONDS.getMask()
+                                                      | SerializationFeature.WRITE_ENUM_KEYS_USING_INDEX.getMask()
+                                                      | SerializationFeature.WRITE_ENUMS_USING_TO_STRING.getMask()
+                                                      | SerializationFeature.WRITE_ENUMS_USING_INDEX.getMask();
+
+    private static final int DESERIALIZATION_FEATURES = DeserializationFeature.READ_ENUMS_USING_TO_STRING.getMask()
+                                                        | DeserializationFeature.READ_UNKNOWN_ENUM_VALUES_AS_NULL.getMask()
+                                                        | DeserializationFeature.READ_UNKNOWN_ENUM_VALUES_USING_DEFAULT_VALUE.getMask()
+                                                        | DeserializationFeature.FAIL_ON_NUMBERS_FOR_ENUMS.getMask()
+                                                        | DeserializationFeature.ADJUST_DATES_TO_CONTEXT_TIME_ZONE.getMask();
+
+    static KeySettings of(SerializationConfig config) {
+        return of(config, config.getSerializationFeatures() & SERIALIZATION_FEATURES);
+    }
+
+    static KeySettings of(DeserializationConfig config) {
+        return of(config, config.getDeserializationFeatures() & DESERIALIZATION_FEATURES);
+    }
+
+    private static KeySettings of(MapperConfig<?> config, int features) {
+        int enumFeatures = 0;
+        for (EnumFeature feature : EnumFeature.values()) {
+            if (config.isEnabled(feature)) {
+                enumFeatures |= feature.getMask();
+            }
+        }
+        return new KeySettings(features, enumFeatures, config.getDateFormat(), config.getTimeZone(), config.getLocale());
+    }
+}
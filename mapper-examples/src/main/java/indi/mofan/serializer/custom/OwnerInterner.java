@@ -0,0 +1,101 @@
+package indi.mofan.serializer.custom;
+
+import com.fasterxml.jackson.databind.DeserializationContext;
+import indi.mofan.serializer.pojo.User;
+
+/**
+ * 一次读取过程中按 owner id 复用 User 实例，引用同一 owner 的 Item 共享同一个 User。
+ * <p>
+ * 按需启用，通过 {@code ObjectReader#withAttribute(OwnerInterner.class, true)} 打开。
+ * 实例以 per-call 属性保存在 DeserializationContext 中，{@code readValue} 返回或 MappingIterator 关闭后随上下文一起丢弃，
+ * 不同的读取之间互不共享。
+ * <p>
+ * 共享的 User 是可变对象，修改其中一个 Item 的 owner 会影响同一 owner 的所有 Item。
+ *
+ * @author mofan
+ * @date 2026/10/18 16:00
+ */
+public final class OwnerInterner {
+
+    /**
+     * 保存当前会话实例的 per-call 属性键
+     */
+    private static final Object SESSION_KEY = new Object();
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    /**
+     * 开放寻址，values[i] 为 null 表示空槽，key 使用基本类型 int 避免装箱
+     */
+    private int[] keys = new int[INITIAL_CAPACITY];
+    private User[] values = new User[INITIAL_CAPACITY];
+    private int size;
+
+    private OwnerInterner() {
+    }
+
+    /**
+     * 返回 id 对应的 User，未启用时每次都创建新实例
+     */
+    static User owner(DeserializationContext context, int id) {
+        OwnerInterner interner = session(context);
+        return interner == null ? new User(id, null) : interner.get(id);
+    }
+
+    private static OwnerInterner session(DeserializationContext context) {
+        Object session = context.getAttribute(SESSION_KEY);
+        if (session != null) {
+            return (OwnerInterner) session;
+        }
+        if (!Boolean.TRUE.equals(context.getAttribute(OwnerInterner.class))) {
+            return null;
+        }
+        OwnerInterner interner = new OwnerInterner();
+        context.setAttribute(SESSION_KEY, interner);
+        return interner;
+    }
+
+    private User get(int id) {
+        int mask = keys.length - 1;
+        int index = mix(id) & mask;
+        User user;
+        while ((user = values[index]) != null) {
+            if (keys[index] == id) {
+                return user;
+            }
+            index = (index + 1) & mask;
+        }
+        user = new User(id, null);
+        keys[index] = id;
+        values[index] = user;
+        // 负载因子 0.5
+        if (++size > keys.length >>> 1) {
+            resize();
+        }
+        return user;
+    }
+
+    private void resize() {
+        int[] oldKeys = keys;
+        User[] oldValues = values;
+        keys = new int[oldKeys.length << 1];
+        values = new User[oldValues.length << 1];
+        int mask = keys.length - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldValues[i] != null) {
+                int index = mix(oldKeys[i]) & mask;
+                while (values[index] != null) {
+                    index = (index + 1) & mask;
+                }
+                keys[index] = oldKeys[i];
+                values[index] = oldValues[i];
+            }
+        }
+    }
+
+    private static int mix(int id) {
+        // 连续的 id 分散到不同的槽位
+        int h = id * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
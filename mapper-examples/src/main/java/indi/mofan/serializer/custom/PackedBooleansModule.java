@@ -0,0 +1,246 @@
+package indi.mofan.serializer.custom;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.PropertyName;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.cfg.MapperConfig;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerBuilder;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerModifier;
+import com.fasterxml.jackson.databind.deser.CreatorProperty;
+import com.fasterxml.jackson.databind.deser.SettableBeanProperty;
+import com.fasterxml.jackson.databind.introspect.BasicClassIntrospector;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+
+import java.io.IOException;
+import java.io.Serial;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 处理 {@link JsonPackedBooleans} 标记的类：序列化时将布尔属性合并成一个整数，反序列化时再拆开。
+ * <p>
+ * 反序列化时原本的布尔属性依旧可以单独读取，方便从逐个字段的旧格式迁移。
+ * 位掩码是普通的整数，JSON、Smile 等格式都可以使用。
+ *
+ * @author mofan
+ * @date 2026/10/18 20:10
+ */
+public class PackedBooleansModule extends SimpleModule {
+    @Serial
+    private static final long serialVersionUID = -2118735905180404391L;
+
+    public PackedBooleansModule() {
+        super(PackedBooleansModule.class.getSimpleName());
+    }
+
+    @Override
+    public void setupModule(SetupContext context) {
+        super.setupModule(context);
+        context.addBeanSerializerModifier(new BeanSerializerModifier() {
+            @Serial
+            private static final long serialVersionUID = 5026400937154452186L;
+
+            @Override
+            public List<BeanPropertyWriter> changeProperties(SerializationConfig config,
+                                                             BeanDescription beanDesc,
+                                                             List<BeanPropertyWriter> beanProperties) {
+                JsonPackedBooleans packed = beanDesc.getClassAnnotations().get(JsonPackedBooleans.class);
+                if (packed == null) {
+                    return beanProperties;
+                }
+                List<String> names = booleanNames(config, beanDesc.getType());
+                BeanPropertyWriter[] bits = new BeanPropertyWriter[names.size()];
+                List<BeanPropertyWriter> result = new ArrayList<>(beanProperties.size());
+                BeanPropertyWriter first = null;
+                int position = -1;
+                for (BeanPropertyWriter writer : beanProperties) {
+                    int bit = names.indexOf(writer.getName());
+                    if (bit < 0) {
+                        result.add(writer);
+                        continue;
+                    }
+                    bits[bit] = writer;
+                    if (first == null) {
+                        first = writer;
+                        position = result.size();
+                    }
+                }
+                if (first != null) {
+                    // 放在第一个布尔属性原本的位置
+                    result.add(position, new PackedBooleansWriter(first, PropertyName.construct(packed.value()), bits));
+                }
+                return result;
+            }
+        });
+        context.addBeanDeserializerModifier(new BeanDeserializerModifier() {
+            @Serial
+            private static final long serialVersionUID = -4905447117337264335L;
+
+            @Override
+            public BeanDeserializerBuilder updateBuilder(DeserializationConfig config,
+                                                         BeanDescription beanDesc,
+                                                         BeanDeserializerBuilder builder) {
+                JsonPackedBooleans packed = beanDesc.getClassAnnotations().get(JsonPackedBooleans.class);
+                if (packed == null) {
+                    return builder;
+                }
+                List<String> names = booleanNames(config, beanDesc.getType());
+                SettableBeanProperty[] bits = new SettableBeanProperty[names.size()];
+                SettableBeanProperty first = null;
+                for (int i = 0; i < names.size(); i++) {
+                    SettableBeanProperty property = builder.findProperty(PropertyName.construct(names.get(i)));
+                    if (property == null) {
+                        continue;
+                    }
+                    if (property instanceof CreatorProperty) {
+                        throw new IllegalArgumentException("@JsonPackedBooleans does not support creator property '"
+                                                           + property.getName() + "' of " + beanDesc.getBeanClass());
+                    }
+                    bits[i] = property;
+                    if (first == null) {
+                        first = property;
+                    }
+                }
+                if (first != null) {
+                    builder.addProperty(new PackedBooleansProperty(first.withSimpleName(packed.value()), bits));
+                }
+                return builder;
+            }
+        });
+    }
+
+    /**
+     * 返回两个方向共用的位顺序，下标即所在的位：先是序列化时的布尔属性（按 Jackson 的属性顺序），
+     * 再追加只能反序列化的布尔属性。只有 getter 或只有 setter 的属性也占一位，保证两侧的下标一致。
+     * <p>
+     * 两个方向的属性都按传入的配置收集，mapper.copy() 后修改命名策略等配置时位顺序依旧一致
+     */
+    private static List<String> booleanNames(MapperConfig<?> config, JavaType beanType) {
+        Set<String> names = new LinkedHashSet<>();
+        for (boolean forSerialization : new boolean[]{true, false}) {
+            for (BeanPropertyDefinition property : PropertyCollector.INSTANCE.properties(config, beanType, forSerialization)) {
+                Class<?> type = property.getRawPrimaryType();
+                if (type == boolean.class || type == Boolean.class) {
+                    names.add(property.getName());
+                }
+            }
+        }
+        if (names.size() > Long.SIZE) {
+            throw new IllegalArgumentException("@JsonPackedBooleans supports at most 64 boolean properties, "
+                                               + beanType.getRawClass() + " has " + names.size());
+        }
+        return new ArrayList<>(names);
+    }
+
+    /**
+     * 按任意方向收集属性。MapperConfig 只能 introspect 自己方向的属性，另一个方向借用 Jackson 的收集逻辑
+     */
+    private static class PropertyCollector extends BasicClassIntrospector {
+        @Serial
+        private static final long serialVersionUID = 6619542043165082213L;
+
+        static final PropertyCollector INSTANCE = new PropertyCollector();
+
+        List<BeanPropertyDefinition> properties(MapperConfig<?> config, JavaType type, boolean forSerialization) {
+            return collectProperties(config, type, config, forSerialization).getProperties();
+        }
+    }
+
+    /**
+     * 代替全部布尔属性写出一个 long
+     */
+    static class PackedBooleansWriter extends BeanPropertyWriter {
+        @Serial
+        private static final long serialVersionUID = -1496416617410389424L;
+
+        private final BeanPropertyWriter[] bits;
+
+        PackedBooleansWriter(BeanPropertyWriter base, PropertyName name, BeanPropertyWriter[] bits) {
+            super(base, name);
+            this.bits = bits;
+        }
+
+        @Override
+        protected BeanPropertyWriter _new(PropertyName newName) {
+            return new PackedBooleansWriter(this, newName, bits);
+        }
+
+        @Override
+        public void fixAccess(SerializationConfig config) {
+            super.fixAccess(config);
+            // 被合并的属性不在最终的属性列表中，需要单独处理访问权限
+            for (BeanPropertyWriter bit : bits) {
+                if (bit != null) {
+                    bit.fixAccess(config);
+                }
+            }
+        }
+
+        @Override
+        public void serializeAsField(Object bean, JsonGenerator gen, SerializerProvider prov) throws Exception {
+            long mask = 0L;
+            for (int i = 0; i < bits.length; i++) {
+                if (bits[i] != null && Boolean.TRUE.equals(bits[i].get(bean))) {
+                    mask |= 1L << i;
+                }
+            }
+            gen.writeFieldName(_name);
+            gen.writeNumber(mask);
+        }
+    }
+
+    /**
+     * 读取 long 后逐位设置到各个布尔属性上
+     */
+    static class PackedBooleansProperty extends SettableBeanProperty.Delegating {
+        @Serial
+        private static final long serialVersionUID = 2931164520873640218L;
+
+        private final SettableBeanProperty[] bits;
+
+        PackedBooleansProperty(SettableBeanProperty delegate, SettableBeanProperty[] bits) {
+            super(delegate);
+            this.bits = bits;
+        }
+
+        @Override
+        protected SettableBeanProperty withDelegate(SettableBeanProperty d) {
+            return new PackedBooleansProperty(d, bits);
+        }
+
+        @Override
+        public void deserializeAndSet(JsonParser p, DeserializationContext ctxt, Object instance) throws IOException {
+            if (p.hasToken(JsonToken.VALUE_NULL)) {
+                return;
+            }
+            if (!p.hasToken(JsonToken.VALUE_NUMBER_INT)) {
+                ctxt.handleUnexpectedToken(Long.class, p);
+                return;
+            }
+            long mask = p.getLongValue();
+            for (int i = 0; i < bits.length; i++) {
+                if (bits[i] != null) {
+                    bits[i].set(instance, ((mask >>> i) & 1L) != 0L);
+                }
+            }
+        }
+
+        @Override
+        public Object deserializeSetAndReturn(JsonParser p, DeserializationContext ctxt, Object instance) throws IOException {
+            deserializeAndSet(p, ctxt, instance);
+            return instance;
+        }
+    }
+}
@@ -0,0 +1,272 @@
+package indi.mofan.serializer.custom;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.SequenceInputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * 并行读取根节点为超大数组的 JSON，例如导出文件中的 {@code [{...}, {...}, ...]}：
+ * <pre>{@code
+ * ParallelArrayReader<Car> reader = new ParallelArrayReader<>(mapper.readerFor(Car.class));
+ * List<Car> cars = reader.read(Path.of("cars.json"));
+ * }</pre>
+ * 单线程按字节扫描输入，只跟踪括号深度和是否处于字符串中，在顶层的逗号处把数组切成若干块，
+ * 每块包上 [] 后交给 ForkJoinPool 用 ObjectReader 解析，扫描和解析同时进行。
+ * 最后按块的顺序合并结果，元素顺序与输入一致。
+ * <p>
+ * 只支持 UTF-8 编码。元素内部的语法错误由 Jackson 报告，错误位置是相对于所在块的。
+ * 单个元素不能超过 2GB。
+ *
+ * @author mofan
+ * @date 2026/10/19 10:10
+ */
+public class ParallelArrayReader<T> {
+
+    private static final int DEFAULT_CHUNK_SIZE = 4 << 20;
+
+    /**
+     * 扫描文件时每次映射的大小
+     */
+    private static final int WINDOW_SIZE = 64 << 20;
+
+    /**
+     * 扫描时每次复制到数组中的大小，直接遍历 byte[] 比逐个调用 ByteBuffer#get 快得多
+     */
+    private static final int BLOCK_SIZE = 64 << 10;
+
+    private static final byte[] OPEN = {'['};
+    private static final byte[] CLOSE = {']'};
+
+    private final ObjectReader chunkReader;
+    private final int chunkSize;
+    private final ForkJoinPool pool;
+
+    public ParallelArrayReader(ObjectReader elementReader) {
+        this(elementReader, DEFAULT_CHUNK_SIZE, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param elementReader 读取单个元素的 ObjectReader，如 {@code mapper.readerFor(Car.class)}
+     * @param chunkSize     每块至少包含的字节数，块在达到此大小后的第一个顶层逗号处结束
+     * @param pool          解析各块的线程池
+     */
+    public ParallelArrayReader(ObjectReader elementReader, int chunkSize, ForkJoinPool pool) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize must be positive: " + chunkSize);
+        }
+        this.chunkReader = elementReader.forType(
+                elementReader.getTypeFactory().constructCollectionType(ArrayList.class, elementReader.getValueType())
+        );
+        this.chunkSize = chunkSize;
+        this.pool = pool;
+    }
+
+    public List<T> read(byte[] json) throws IOException {
+        return read(ByteBuffer.wrap(json));
+    }
+
+    /**
+     * 读取 buffer 中 position 到 limit 之间的内容，不修改 buffer 的 position
+     */
+    public List<T> read(ByteBuffer json) throws IOException {
+        int base = json.position();
+        return read(json.remaining(), (offset, length) -> json.slice(base + (int) offset, length));
+    }
+
+    /**
+     * 通过内存映射读取文件，扫描和各块的解析各自映射需要的区域，文件大小不受 2GB 的限制
+     */
+    public List<T> read(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return read(channel.size(), (offset, length) -> channel.map(FileChannel.MapMode.READ_ONLY, offset, length));
+        }
+    }
+
+    private List<T> read(long length, Source source) throws IOException {
+        List<ForkJoinTask<List<T>>> tasks = new ArrayList<>();
+        try {
+            scan(length, source, tasks);
+            return join(tasks);
+        } catch (IOException | RuntimeException e) {
+            tasks.forEach(task -> task.cancel(true));
+            throw e;
+        }
+    }
+
+    private void scan(long length, Source source, List<ForkJoinTask<List<T>>> tasks) throws IOException {
+        byte[] block = new byte[BLOCK_SIZE];
+        // depth 为 0 时还没有遇到外层的 [，为 1 时位于数组的顶层
+        int depth = 0;
+        boolean inString = false;
+        boolean closed = false;
+        long chunkStart = -1;
+        // 当前块中是否出现过空白以外的内容，只有空白的块会被 Jackson 当作空数组接受
+        boolean content = false;
+        // 上一块末尾的反斜杠转义了本块的第一个字节
+        int skip = 0;
+        for (long windowBase = 0; windowBase < length; windowBase += WINDOW_SIZE) {
+            int windowSize = (int) Math.min(WINDOW_SIZE, length - windowBase);
+            ByteBuffer window = source.slice(windowBase, windowSize);
+            for (int offset = 0; offset < windowSize; offset += BLOCK_SIZE) {
+                int n = Math.min(BLOCK_SIZE, windowSize - offset);
+                window.get(offset, block, 0, n);
+                long base = windowBase + offset;
+                int i = skip;
+                skip = 0;
+                if (inString) {
+                    i = skipString(block, i, n);
+                    if (i >= n) {
+                        skip = i - n;
+                        continue;
+                    }
+                    inString = false;
+                    i++;
+                }
+                for (; i < n; i++) {
+                    byte b = block[i];
+                    if (depth == 0) {
+                        long position = base + i;
+                        if (isWhitespace(b) || (position < 3 && isByteOrderMark(position, b))) {
+                            continue;
+                        }
+                        if (closed || b != '[') {
+                            throw new JsonParseException(null, (closed ? "Trailing content after" : "Expected")
+                                                               + " top-level JSON array at byte " + position);
+                        }
+                        depth = 1;
+                        chunkStart = position + 1;
+                    } else if (b == '"') {
+                        content = true;
+                        i = skipString(block, i + 1, n);
+                        if (i >= n) {
+                            inString = true;
+                            skip = i - n;
+                        }
+                    } else if (b == '{' || b == '[') {
+                        content = true;
+                        depth++;
+                    } else if (b == '}' || b == ']') {
+                        if (--depth == 0) {
+                            // 深度回到 0 的括号不一定是 ]，例如 [1}，元素内部的括号不匹配则由 Jackson 解析各块时报告
+                            if (b != ']') {
+                                throw new JsonParseException(null, "Unexpected '}' at byte " + (base + i)
+                                                                   + ": expected ']' to close top-level JSON array");
+                            }
+                            // 切分过的数组中只有空白的最后一块来自结尾多余的逗号，例如 [1, ]
+                            if (!content && !tasks.isEmpty()) {
+                                throw new JsonParseException(null, "Unexpected ']' at byte " + (base + i)
+                                                                   + ": trailing comma in top-level JSON array");
+                            }
+                            tasks.add(submit(source, chunkStart, base + i));
+                            closed = true;
+                        }
+                    } else if (b == ',' && depth == 1 && base + i - chunkStart >= chunkSize) {
+                        if (!content) {
+                            throw new JsonParseException(null, "Unexpected ',' at byte " + (base + i)
+                                                               + ": missing array element");
+                        }
+                        tasks.add(submit(source, chunkStart, base + i));
+                        chunkStart = base + i + 1;
+                        content = false;
+                    } else if (!content && !isWhitespace(b)) {
+                        content = true;
+                    }
+                }
+            }
+        }
+        if (!closed) {
+            throw new JsonParseException(null, "Unexpected end of input: top-level JSON array is not closed");
+        }
+    }
+
+    /**
+     * 从字符串内部的 i 开始查找结束的引号并返回其位置，块内没有找到时返回 n，
+     * 块的最后一个字节是反斜杠时返回 n + 1
+     */
+    private static int skipString(byte[] block, int i, int n) {
+        while (i < n) {
+            byte b = block[i];
+            if (b == '"') {
+                return i;
+            }
+            // 跳过被转义的字节，UTF-8 的多字节字符中不会出现引号和反斜杠
+            i += b == '\\' ? 2 : 1;
+        }
+        return i;
+    }
+
+    private ForkJoinTask<List<T>> submit(Source source, long start, long end) throws IOException {
+        long length = end - start;
+        if (length > Integer.MAX_VALUE - 2) {
+            throw new JsonParseException(null, "Array element at byte " + start + " is larger than 2GB");
+        }
+        return pool.submit(() -> chunkReader.readValue(chunk(source.slice(start, (int) length))));
+    }
+
+    private List<T> join(List<ForkJoinTask<List<T>>> tasks) throws IOException {
+        List<List<T>> chunks = new ArrayList<>(tasks.size());
+        int size = 0;
+        for (ForkJoinTask<List<T>> task : tasks) {
+            try {
+                List<T> chunk = task.get();
+                chunks.add(chunk);
+                size += chunk.size();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while reading JSON array");
+            } catch (ExecutionException e) {
+                // ForkJoinTask 会把 Callable 抛出的受检异常包装成 RuntimeException
+                for (Throwable cause = e.getCause(); cause != null; cause = cause.getCause()) {
+                    if (cause instanceof IOException io) {
+                        throw io;
+                    }
+                }
+                if (e.getCause() instanceof RuntimeException runtime) {
+                    throw runtime;
+                }
+                throw new IOException(e.getCause());
+            }
+        }
+        List<T> result = new ArrayList<>(size);
+        chunks.forEach(result::addAll);
+        return result;
+    }
+
+    /**
+     * 把逗号分隔的若干元素包装成一个数组
+     */
+    private static InputStream chunk(ByteBuffer elements) {
+        return new SequenceInputStream(Collections.enumeration(List.of(
+                new ByteArrayInputStream(OPEN), new ByteBufferBackedInputStream(elements), new ByteArrayInputStream(CLOSE)
+        )));
+    }
+
+    private static boolean isWhitespace(byte b) {
+        return b == ' ' || b == '\n' || b == '\r' || b == '\t';
+    }
+
+    private static boolean isByteOrderMark(long position, byte b) {
+        return b == (byte) (position == 0 ? 0xEF : position == 1 ? 0xBB : 0xBF);
+    }
+
+    @FunctionalInterface
+    private interface Source {
+        ByteBuffer slice(long offset, int length) throws IOException;
+    }
+}
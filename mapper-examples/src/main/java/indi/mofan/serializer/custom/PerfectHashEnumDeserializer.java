@@ -0,0 +1,290 @@
+package indi.mofan.serializer.custom;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.util.EnumResolver;
+
+import java.io.IOException;
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 通过构造时生成的完美哈希表查找枚举项，直接使用 parser 中的字符，不创建 String。
+ * <p>
+ * 可接受的名字来自 Jackson 的 {@link EnumResolver}，与默认的 EnumDeserializer 一致（name、@JsonProperty、@JsonAlias、@JsonValue）。
+ * 开启大小写不敏感时，先精确匹配，再按折叠后的字符匹配。
+ * <p>
+ * 查不到或者不是字符串的输入（数字下标、空字符串、未知值的处理等）都交给原本的 EnumDeserializer，保证行为一致。
+ *
+ * @author mofan
+ * @date 2026/10/18 19:00
+ */
+public class PerfectHashEnumDeserializer extends StdDeserializer<Object> implements ContextualDeserializer {
+    @Serial
+    private static final long serialVersionUID = -2755394592223640226L;
+
+    private final JsonDeserializer<?> delegate;
+    private final Map<String, Object> names;
+    private final boolean caseInsensitive;
+
+    private final Table exact;
+    /**
+     * 大小写不敏感时使用，否则为 null
+     */
+    private final Table folded;
+
+    public PerfectHashEnumDeserializer(EnumResolver resolver, boolean caseInsensitive, JsonDeserializer<?> delegate) {
+        this(resolver.getEnumClass(), names(resolver), caseInsensitive, delegate);
+    }
+
+    private PerfectHashEnumDeserializer(Class<?> enumClass, Map<String, Object> names,
+                                        boolean caseInsensitive, JsonDeserializer<?> delegate) {
+        super(enumClass);
+        this.delegate = delegate;
+        this.names = names;
+        this.caseInsensitive = caseInsensitive;
+        this.exact = Table.build(names, false);
+        this.folded = caseInsensitive ? Table.build(names, true) : null;
+    }
+
+    private static Map<String, Object> names(EnumResolver resolver) {
+        Map<String, Object> names = new LinkedHashMap<>();
+        for (String id : resolver.getEnumIds()) {
+            names.put(id, resolver.findEnum(id));
+        }
+        return names;
+    }
+
+    @Override
+    public JsonDeserializer<?> createContextual(DeserializationContext ctxt, BeanProperty property) throws JsonMappingException {
+        JsonDeserializer<?> contextual = delegate instanceof ContextualDeserializer c
+                ? c.createContextual(ctxt, property) : delegate;
+        // 属性上的 @JsonFormat(with = ACCEPT_CASE_INSENSITIVE_VALUES) 优先
+        Boolean insensitive = findFormatFeature(ctxt, property, handledType(),
+                JsonFormat.Feature.ACCEPT_CASE_INSENSITIVE_VALUES);
+        boolean resolved = insensitive == null ? caseInsensitive : insensitive;
+        if (contextual == delegate && resolved == caseInsensitive) {
+            return this;
+        }
+        return new PerfectHashEnumDeserializer(handledType(), names, resolved, contextual);
+    }
+
+    @Override
+    public boolean isCachable() {
+        return true;
+    }
+
+    @Override
+    public Object deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        if (p.hasToken(JsonToken.VALUE_STRING) && !ctxt.isEnabled(DeserializationFeature.READ_ENUMS_USING_TO_STRING)) {
+            char[] buf = p.getTextCharacters();
+            int offset = p.getTextOffset();
+            int len = p.getTextLength();
+            Object value = exact.find(buf, offset, len);
+            if (value == null && folded != null) {
+                value = folded.find(buf, offset, len);
+            }
+            if (value != null) {
+                return value;
+            }
+        }
+        return delegate.deserialize(p, ctxt);
+    }
+
+    /**
+     * 构造时生成的无冲突哈希表（hash and displace）：
+     * 名字的哈希先按低位分桶，每个桶搜索一个位移值，使桶内名字经过二次混合后落在互不相同的空槽位中。
+     * 查找时只需遍历一次字符计算哈希，再查一次位移表和一次槽位。
+     */
+    static final class Table implements Serializable {
+        @Serial
+        private static final long serialVersionUID = 6409633546935016736L;
+
+        private static final int MAX_DISPLACEMENTS = 1 << 16;
+
+        private final char[][] keys;
+        private final Object[] values;
+        private final int[] displacements;
+        private final int seed;
+        private final boolean fold;
+
+        private Table(char[][] keys, Object[] values, int[] displacements, int seed, boolean fold) {
+            this.keys = keys;
+            this.values = values;
+            this.displacements = displacements;
+            this.seed = seed;
+            this.fold = fold;
+        }
+
+        static Table build(Map<String, Object> names, boolean fold) {
+            // 折叠后相同的名字保留第一个
+            Map<String, Object> unique = new LinkedHashMap<>();
+            for (Map.Entry<String, Object> entry : names.entrySet()) {
+                unique.putIfAbsent(fold ? fold(entry.getKey()) : entry.getKey(), entry.getValue());
+            }
+            char[][] keys = new char[unique.size()][];
+            Object[] values = unique.values().toArray();
+            int n = 0;
+            for (String key : unique.keySet()) {
+                keys[n++] = key.toCharArray();
+            }
+
+            int buckets = Integer.highestOneBit(Math.max(1, n));
+            int size = Integer.highestOneBit(Math.max(1, n) * 2 - 1) << 1;
+            for (int seed = 0; ; seed++) {
+                int[] hashes = hashes(keys, seed, fold);
+                if (hashes == null) {
+                    // 两个名字的 32 位哈希完全相同，换一个种子
+                    continue;
+                }
+                for (int capacity = size; capacity <= size << 4; capacity <<= 1) {
+                    Table table = place(keys, values, hashes, buckets, capacity, seed, fold);
+                    if (table != null) {
+                        return table;
+                    }
+                }
+            }
+        }
+
+        private static int[] hashes(char[][] keys, int seed, boolean fold) {
+            int[] hashes = new int[keys.length];
+            Set<Integer> seen = new HashSet<>();
+            for (int i = 0; i < keys.length; i++) {
+                hashes[i] = hash(keys[i], 0, keys[i].length, seed, fold);
+                if (!seen.add(hashes[i])) {
+                    return null;
+                }
+            }
+            return hashes;
+        }
+
+        private static Table place(char[][] keys, Object[] values, int[] hashes,
+                                   int buckets, int capacity, int seed, boolean fold) {
+            List<List<Integer>> byBucket = new ArrayList<>(buckets);
+            for (int b = 0; b < buckets; b++) {
+                byBucket.add(new ArrayList<>());
+            }
+            for (int i = 0; i < keys.length; i++) {
+                byBucket.get(hashes[i] & (buckets - 1)).add(i);
+            }
+            // 先处理名字多的桶
+            List<Integer> order = new ArrayList<>(buckets);
+            for (int b = 0; b < buckets; b++) {
+                order.add(b);
+            }
+            order.sort((a, b) -> byBucket.get(b).size() - byBucket.get(a).size());
+
+            char[][] tableKeys = new char[capacity][];
+            Object[] tableValues = new Object[capacity];
+            int[] displacements = new int[buckets];
+            int[] slots = new int[keys.length];
+            for (int bucket : order) {
+                List<Integer> members = byBucket.get(bucket);
+                if (members.isEmpty()) {
+                    break;
+                }
+                int displacement = findDisplacement(members, hashes, tableKeys, slots, capacity);
+                if (displacement < 0) {
+                    return null;
+                }
+                displacements[bucket] = displacement;
+                for (int i : members) {
+                    tableKeys[slots[i]] = keys[i];
+                    tableValues[slots[i]] = values[i];
+                }
+            }
+            return new Table(tableKeys, tableValues, displacements, seed, fold);
+        }
+
+        private static int findDisplacement(List<Integer> members, int[] hashes,
+                                            char[][] tableKeys, int[] slots, int capacity) {
+            next:
+            for (int d = 0; d < MAX_DISPLACEMENTS; d++) {
+                for (int m = 0; m < members.size(); m++) {
+                    int i = members.get(m);
+                    int slot = slot(hashes[i], d, capacity - 1);
+                    if (tableKeys[slot] != null) {
+                        continue next;
+                    }
+                    for (int k = 0; k < m; k++) {
+                        if (slots[members.get(k)] == slot) {
+                            continue next;
+                        }
+                    }
+                    slots[i] = slot;
+                }
+                return d;
+            }
+            return -1;
+        }
+
+        Object find(char[] buf, int offset, int len) {
+            int h = hash(buf, offset, len, seed, fold);
+            int slot = slot(h, displacements[h & (displacements.length - 1)], keys.length - 1);
+            char[] key = keys[slot];
+            if (key == null || key.length != len) {
+                return null;
+            }
+            if (!fold) {
+                return Arrays.equals(key, 0, len, buf, offset, offset + len) ? values[slot] : null;
+            }
+            for (int i = 0; i < len; i++) {
+                if (fold(buf[offset + i]) != key[i]) {
+                    return null;
+                }
+            }
+            return values[slot];
+        }
+
+        private static int slot(int hash, int displacement, int mask) {
+            int h = (hash ^ displacement * 0x85EBCA6B) * 0x9E3779B9;
+            return (h ^ (h >>> 15)) & mask;
+        }
+
+        private static int hash(char[] buf, int offset, int len, int seed, boolean fold) {
+            int h = 0x811C9DC5 ^ seed * 0xC2B2AE35;
+            int end = offset + len;
+            // 分成两个循环，避免在热点循环中判断 fold
+            if (fold) {
+                for (int i = offset; i < end; i++) {
+                    h = (h ^ fold(buf[i])) * 0x01000193;
+                }
+            } else {
+                for (int i = offset; i < end; i++) {
+                    h = (h ^ buf[i]) * 0x01000193;
+                }
+            }
+            return h ^ (h >>> 16);
+        }
+
+        /**
+         * 与 String#equalsIgnoreCase 相同的逐字符折叠方式
+         */
+        private static char fold(char c) {
+            return Character.toLowerCase(Character.toUpperCase(c));
+        }
+
+        private static String fold(String name) {
+            char[] chars = name.toCharArray();
+            for (int i = 0; i < chars.length; i++) {
+                chars[i] = fold(chars[i]);
+            }
+            return new String(chars);
+        }
+    }
+}
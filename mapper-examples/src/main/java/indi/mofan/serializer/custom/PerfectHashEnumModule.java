@@ -0,0 +1,58 @@
+package indi.mofan.serializer.custom;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerModifier;
+import com.fasterxml.jackson.databind.deser.std.EnumDeserializer;
+import com.fasterxml.jackson.databind.introspect.AnnotatedClass;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMember;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.util.EnumResolver;
+
+import java.io.Serial;
+
+/**
+ * 将 Jackson 默认创建的 EnumDeserializer 包装成 {@link PerfectHashEnumDeserializer}。
+ * <p>
+ * 通过 @JsonCreator 构造的枚举（FactoryBasedEnumDeserializer）、使用 @EnumNaming 的枚举，
+ * 以及 @JsonDeserialize 指定了反序列化器的枚举保持原样。
+ *
+ * @author mofan
+ * @date 2026/10/18 19:20
+ */
+public class PerfectHashEnumModule extends SimpleModule {
+    @Serial
+    private static final long serialVersionUID = 7398471063215935601L;
+
+    public PerfectHashEnumModule() {
+        super(PerfectHashEnumModule.class.getSimpleName());
+        setDeserializerModifier(new BeanDeserializerModifier() {
+            @Serial
+            private static final long serialVersionUID = -8617339560178419738L;
+
+            @Override
+            public JsonDeserializer<?> modifyEnumDeserializer(DeserializationConfig config,
+                                                              JavaType type,
+                                                              BeanDescription beanDesc,
+                                                              JsonDeserializer<?> deserializer) {
+                if (deserializer.getClass() != EnumDeserializer.class) {
+                    return deserializer;
+                }
+                AnnotatedClass classInfo = beanDesc.getClassInfo();
+                if (config.getAnnotationIntrospector().findEnumNamingStrategy(config, classInfo) != null) {
+                    return deserializer;
+                }
+                // 与 BasicDeserializerFactory 中选择 EnumResolver 的方式一致
+                AnnotatedMember jsonValue = beanDesc.findJsonValueAccessor();
+                EnumResolver resolver = jsonValue != null
+                        ? EnumResolver.constructUsingMethod(config, classInfo, jsonValue)
+                        : EnumResolver.constructFor(config, classInfo);
+                return new PerfectHashEnumDeserializer(resolver,
+                        config.isEnabled(MapperFeature.ACCEPT_CASE_INSENSITIVE_ENUMS), deserializer);
+            }
+        });
+    }
+}
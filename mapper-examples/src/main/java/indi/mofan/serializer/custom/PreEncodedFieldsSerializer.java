@@ -0,0 +1,63 @@
+package indi.mofan.serializer.custom;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.io.Serial;
+
+/**
+ * 手写序列化器的基类，字段名在类加载时通过 {@link #fieldName(String)} 预先编码一次。
+ * <p>
+ * 写入 byte[] / OutputStream 时，UTF8JsonGenerator 直接拷贝已加引号的 UTF-8 字节；
+ * 写入 String / Writer 时同样复用已转义的字符，不再对每次调用的字段名重新转义和编码。
+ *
+ * @author mofan
+ * @date 2026/10/18 16:40
+ */
+public abstract class PreEncodedFieldsSerializer<T> extends StdSerializer<T> {
+    @Serial
+    private static final long serialVersionUID = 4806911271592452930L;
+
+    protected PreEncodedFieldsSerializer(Class<T> t) {
+        super(t);
+    }
+
+    /**
+     * 子类中作为 static final 常量使用
+     */
+    protected static SerializableString fieldName(String name) {
+        SerializedString fieldName = new SerializedString(name);
+        // 提前算好两种输出方式下的编码结果，避免第一次序列化时再计算
+        fieldName.asQuotedUTF8();
+        fieldName.asQuotedChars();
+        return fieldName;
+    }
+
+    protected static void writeNumberField(JsonGenerator gen, SerializableString name, int value) throws IOException {
+        gen.writeFieldName(name);
+        gen.writeNumber(value);
+    }
+
+    protected static void writeNumberField(JsonGenerator gen, SerializableString name, long value) throws IOException {
+        gen.writeFieldName(name);
+        gen.writeNumber(value);
+    }
+
+    protected static void writeNumberField(JsonGenerator gen, SerializableString name, double value) throws IOException {
+        gen.writeFieldName(name);
+        gen.writeNumber(value);
+    }
+
+    protected static void writeStringField(JsonGenerator gen, SerializableString name, String value) throws IOException {
+        gen.writeFieldName(name);
+        gen.writeString(value);
+    }
+
+    protected static void writeBooleanField(JsonGenerator gen, SerializableString name, boolean value) throws IOException {
+        gen.writeFieldName(name);
+        gen.writeBoolean(value);
+    }
+}
@@ -0,0 +1,41 @@
+package indi.mofan.serializer.custom;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import indi.mofan.serializer.pojo.Item;
+
+import java.io.IOException;
+import java.io.Serial;
+
+/**
+ * 输出与 {@link ItemSerializer} 相同，字段名预先编码
+ *
+ * @author mofan
+ * @date 2026/10/18 16:50
+ */
+public class PreEncodedItemSerializer extends PreEncodedFieldsSerializer<Item> {
+    @Serial
+    private static final long serialVersionUID = 2675937425049133165L;
+
+    private static final SerializableString ID = fieldName("id");
+    private static final SerializableString ITEM_NAME = fieldName("itemName");
+    private static final SerializableString OWNER = fieldName("owner");
+
+    public PreEncodedItemSerializer() {
+        this(null);
+    }
+
+    public PreEncodedItemSerializer(Class<Item> t) {
+        super(t);
+    }
+
+    @Override
+    public void serialize(Item value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject();
+        writeNumberField(gen, ID, value.id);
+        writeStringField(gen, ITEM_NAME, value.itemName);
+        writeNumberField(gen, OWNER, value.owner.id);
+        gen.writeEndObject();
+    }
+}
@@ -0,0 +1,238 @@
+package indi.mofan.serializer.custom;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import indi.mofan.pojo.DoubleCollection;
+import indi.mofan.pojo.DoubleList;
+import indi.mofan.pojo.DoubleSet;
+import indi.mofan.pojo.IntCollection;
+import indi.mofan.pojo.IntList;
+import indi.mofan.pojo.IntSet;
+import indi.mofan.pojo.LongCollection;
+import indi.mofan.pojo.LongList;
+import indi.mofan.pojo.LongSet;
+
+import java.io.IOException;
+import java.io.Serial;
+
+/**
+ * 为 {@link IntList}、{@link LongList}、{@link DoubleList} 以及对应的 Set 注册序列化器和反序列化器，
+ * 读写时直接使用 JsonParser / JsonGenerator 的基本类型方法，不经过 Integer 等包装类型。
+ * <p>
+ * 数组中的 null、字符串等非数字元素按 int[] 等基本类型数组相同的规则转换或报错。
+ *
+ * @author mofan
+ * @date 2026/10/19 09:50
+ */
+public class PrimitiveCollectionsModule extends SimpleModule {
+    @Serial
+    private static final long serialVersionUID = -3905834108563929018L;
+
+    public PrimitiveCollectionsModule() {
+        super(PrimitiveCollectionsModule.class.getSimpleName());
+        addSerializer(IntList.class, new IntsSerializer());
+        addSerializer(IntSet.class, new IntsSerializer());
+        addSerializer(LongList.class, new LongsSerializer());
+        addSerializer(LongSet.class, new LongsSerializer());
+        addSerializer(DoubleList.class, new DoublesSerializer());
+        addSerializer(DoubleSet.class, new DoublesSerializer());
+        addDeserializer(IntList.class, new IntsDeserializer<>(IntList.class));
+        addDeserializer(IntSet.class, new IntsDeserializer<>(IntSet.class));
+        addDeserializer(LongList.class, new LongsDeserializer<>(LongList.class));
+        addDeserializer(LongSet.class, new LongsDeserializer<>(LongSet.class));
+        addDeserializer(DoubleList.class, new DoublesDeserializer<>(DoubleList.class));
+        addDeserializer(DoubleSet.class, new DoublesDeserializer<>(DoubleSet.class));
+    }
+
+    static final class IntsSerializer extends StdSerializer<IntCollection> {
+        @Serial
+        private static final long serialVersionUID = 2875105867331560931L;
+
+        IntsSerializer() {
+            super(IntCollection.class);
+        }
+
+        @Override
+        public boolean isEmpty(SerializerProvider provider, IntCollection value) {
+            return value.size() == 0;
+        }
+
+        @Override
+        public void serialize(IntCollection value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            int size = value.size();
+            gen.writeStartArray(value, size);
+            for (int i = 0; i < size; i++) {
+                gen.writeNumber(value.getInt(i));
+            }
+            gen.writeEndArray();
+        }
+    }
+
+    static final class LongsSerializer extends StdSerializer<LongCollection> {
+        @Serial
+        private static final long serialVersionUID = 6390727314380420437L;
+
+        LongsSerializer() {
+            super(LongCollection.class);
+        }
+
+        @Override
+        public boolean isEmpty(SerializerProvider provider, LongCollection value) {
+            return value.size() == 0;
+        }
+
+        @Override
+        public void serialize(LongCollection value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            int size = value.size();
+            gen.writeStartArray(value, size);
+            for (int i = 0; i < size; i++) {
+                gen.writeNumber(value.getLong(i));
+            }
+            gen.writeEndArray();
+        }
+    }
+
+    static final class DoublesSerializer extends StdSerializer<DoubleCollection> {
+        @Serial
+        private static final long serialVersionUID = -1180359625606498207L;
+
+        DoublesSerializer() {
+            super(DoubleCollection.class);
+        }
+
+        @Override
+        public boolean isEmpty(SerializerProvider provider, DoubleCollection value) {
+            return value.size() == 0;
+        }
+
+        @Override
+        public void serialize(DoubleCollection value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            int size = value.size();
+            gen.writeStartArray(value, size);
+            for (int i = 0; i < size; i++) {
+                gen.writeNumber(value.getDouble(i));
+            }
+            gen.writeEndArray();
+        }
+    }
+
+    static final class IntsDeserializer<T extends IntCollection> extends StdDeserializer<T> {
+        @Serial
+        private static final long serialVersionUID = -4404979813012914396L;
+
+        IntsDeserializer(Class<T> type) {
+            super(type);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            T result = (T) (handledType() == IntSet.class ? new IntSet() : new IntList());
+            if (!p.isExpectedStartArrayToken()) {
+                return readSingle(p, ctxt, result);
+            }
+            while (true) {
+                // 大多数元素是整数，nextIntValue 可以省去一次 nextToken 和 getIntValue 的调用
+                int value = p.nextIntValue(0);
+                JsonToken token = p.currentToken();
+                if (token == JsonToken.VALUE_NUMBER_INT) {
+                    result.addInt(value);
+                } else if (token == JsonToken.END_ARRAY) {
+                    return result;
+                } else {
+                    result.addInt(_parseIntPrimitive(p, ctxt));
+                }
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private T readSingle(JsonParser p, DeserializationContext ctxt, T result) throws IOException {
+            if (!ctxt.isEnabled(DeserializationFeature.ACCEPT_SINGLE_VALUE_AS_ARRAY)) {
+                return (T) ctxt.handleUnexpectedToken(handledType(), p);
+            }
+            result.addInt(_parseIntPrimitive(p, ctxt));
+            return result;
+        }
+    }
+
+    static final class LongsDeserializer<T extends LongCollection> extends StdDeserializer<T> {
+        @Serial
+        private static final long serialVersionUID = 1937268106426131584L;
+
+        LongsDeserializer(Class<T> type) {
+            super(type);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            T result = (T) (handledType() == LongSet.class ? new LongSet() : new LongList());
+            if (!p.isExpectedStartArrayToken()) {
+                return readSingle(p, ctxt, result);
+            }
+            while (true) {
+                long value = p.nextLongValue(0L);
+                JsonToken token = p.currentToken();
+                if (token == JsonToken.VALUE_NUMBER_INT) {
+                    result.addLong(value);
+                } else if (token == JsonToken.END_ARRAY) {
+                    return result;
+                } else {
+                    result.addLong(_parseLongPrimitive(p, ctxt));
+                }
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private T readSingle(JsonParser p, DeserializationContext ctxt, T result) throws IOException {
+            if (!ctxt.isEnabled(DeserializationFeature.ACCEPT_SINGLE_VALUE_AS_ARRAY)) {
+                return (T) ctxt.handleUnexpectedToken(handledType(), p);
+            }
+            result.addLong(_parseLongPrimitive(p, ctxt));
+            return result;
+        }
+    }
+
+    static final class DoublesDeserializer<T extends DoubleCollection> extends StdDeserializer<T> {
+        @Serial
+        private static final long serialVersionUID = 8172335462092573905L;
+
+        DoublesDeserializer(Class<T> type) {
+            super(type);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            T result = (T) (handledType() == DoubleSet.class ? new DoubleSet() : new DoubleList());
+            if (!p.isExpectedStartArrayToken()) {
+                return readSingle(p, ctxt, result);
+            }
+            JsonToken token;
+            while ((token = p.nextToken()) != JsonToken.END_ARRAY) {
+                if (token == JsonToken.VALUE_NUMBER_FLOAT || token == JsonToken.VALUE_NUMBER_INT) {
+                    result.addDouble(p.getDoubleValue());
+                } else {
+                    result.addDouble(_parseDoublePrimitive(p, ctxt));
+                }
+            }
+            return result;
+        }
+
+        @SuppressWarnings("unchecked")
+        private T readSingle(JsonParser p, DeserializationContext ctxt, T result) throws IOException {
+            if (!ctxt.isEnabled(DeserializationFeature.ACCEPT_SINGLE_VALUE_AS_ARRAY)) {
+                return (T) ctxt.handleUnexpectedToken(handledType(), p);
+            }
+            result.addDouble(_parseDoublePrimitive(p, ctxt));
+            return result;
+        }
+    }
+}
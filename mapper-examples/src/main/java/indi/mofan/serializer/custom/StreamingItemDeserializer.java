@@ -0,0 +1,74 @@
+package indi.mofan.serializer.custom;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import indi.mofan.serializer.pojo.Item;
+
+import java.io.IOException;
+import java.io.Serial;
+
+/**
+ * 逐个读取 token 的 {@link ItemDeserializer}，不再为每个 Item 构建一棵 JsonNode 树。
+ * <p>
+ * 字段的取值规则与 ItemDeserializer 中 {@code asInt()} / {@code asText()} 保持一致，未知字段直接跳过，不做缓存。
+ *
+ * @author mofan
+ * @date 2026/10/18 15:10
+ */
+public class StreamingItemDeserializer extends StdDeserializer<Item> {
+
+    @Serial
+    private static final long serialVersionUID = -1290383574519186370L;
+
+    public StreamingItemDeserializer() {
+        this(null);
+    }
+
+    protected StreamingItemDeserializer(Class<?> v) {
+        super(v);
+    }
+
+    @Override
+    public Item deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+        Item item = new Item();
+
+        // 可能从 START_OBJECT 开始，也可能已经位于第一个 FIELD_NAME 上
+        String name = parser.hasToken(JsonToken.START_OBJECT) ? parser.nextFieldName() : parser.currentName();
+        for (; name != null; name = parser.nextFieldName()) {
+            parser.nextToken();
+            switch (name) {
+                case "id" -> item.setId(asInt(parser));
+                case "itemName" -> item.setItemName(asText(parser));
+                case "owner" -> item.setOwner(OwnerInterner.owner(context, asInt(parser)));
+                default -> parser.skipChildren();
+            }
+        }
+
+        return item;
+    }
+
+    /**
+     * 同 {@code JsonNode#asInt()}，对象和数组为 0
+     */
+    private static int asInt(JsonParser parser) throws IOException {
+        if (parser.currentToken().isStructStart()) {
+            parser.skipChildren();
+            return 0;
+        }
+        return parser.getValueAsInt();
+    }
+
+    /**
+     * 同 {@code JsonNode#asText()}，对象和数组为空字符串，null 为 "null"
+     */
+    private static String asText(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token.isStructStart()) {
+            parser.skipChildren();
+            return "";
+        }
+        return token == JsonToken.VALUE_NULL ? "null" : parser.getText();
+    }
+}
@@ -0,0 +1,179 @@
+package indi.mofan.serializer.custom;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerBuilder;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerModifier;
+import com.fasterxml.jackson.databind.deser.DeserializationProblemHandler;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+import java.io.IOException;
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 跳过未知属性的同时按目标类型统计未知的字段名，用来在线上发现 JSON 与类定义之间的偏差，不需要打日志。
+ * <p>
+ * 未知属性的值通过 {@link JsonParser#skipChildren()} 跳过：只按 token 前进，字符串的内容不会解码，
+ * 也不会构建 JsonNode 或 Map。是否跳过仍遵循原来的配置：
+ * 带有 {@code @JsonIgnoreProperties(ignoreUnknown = true)} 的类或者关闭了 FAIL_ON_UNKNOWN_PROPERTIES 时跳过，
+ * 否则照常抛出 UnrecognizedPropertyException，但同样会被统计。
+ * <p>
+ * 每个类最多记录 {@link #MAX_NAMES_PER_CLASS} 个不同的字段名，超出的部分只计入总数，避免异常输入撑大内存。
+ *
+ * @author mofan
+ * @date 2026/10/19 10:30
+ */
+public class UnknownPropertyModule extends SimpleModule {
+    @Serial
+    private static final long serialVersionUID = 7790419580637468152L;
+
+    public static final int MAX_NAMES_PER_CLASS = 256;
+
+    /**
+     * 原本声明了忽略未知属性的类，Jackson 会直接跳过这些类的未知属性而不经过 ProblemHandler，
+     * 因此关闭它们的 ignoreUnknown，由这里的 handler 负责跳过
+     */
+    private final Set<Class<?>> ignoreUnknown = ConcurrentHashMap.newKeySet();
+    private final Stats stats = new Stats();
+
+    public UnknownPropertyModule() {
+        super(UnknownPropertyModule.class.getSimpleName());
+        setDeserializerModifier(new BeanDeserializerModifier() {
+            @Serial
+            private static final long serialVersionUID = 2718007413370850377L;
+
+            @Override
+            public BeanDeserializerBuilder updateBuilder(DeserializationConfig config,
+                                                         BeanDescription beanDesc,
+                                                         BeanDeserializerBuilder builder) {
+                JsonIgnoreProperties.Value ignorals = config.getDefaultPropertyIgnorals(beanDesc.getBeanClass(),
+                        beanDesc.getClassInfo());
+                if (ignorals != null && ignorals.getIgnoreUnknown()) {
+                    ignoreUnknown.add(beanDesc.getBeanClass());
+                    builder.setIgnoreUnknownProperties(false);
+                }
+                return builder;
+            }
+        });
+    }
+
+    @Override
+    public void setupModule(SetupContext context) {
+        super.setupModule(context);
+        context.addDeserializationProblemHandler(new SkippingHandler());
+    }
+
+    public Stats stats() {
+        return stats;
+    }
+
+    private final class SkippingHandler extends DeserializationProblemHandler implements Serializable {
+        @Serial
+        private static final long serialVersionUID = -3047158830426924364L;
+
+        @Override
+        public boolean handleUnknownProperty(DeserializationContext ctxt, JsonParser p, JsonDeserializer<?> deserializer,
+                                             Object beanOrClass, String propertyName) throws IOException {
+            Class<?> type = deserializer != null ? deserializer.handledType()
+                    : beanOrClass instanceof Class<?> clazz ? clazz : beanOrClass.getClass();
+            stats.counter(type).record(propertyName);
+            if (ignoreUnknown.contains(type) || !ctxt.isEnabled(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)) {
+                p.skipChildren();
+                return true;
+            }
+            // 交给 Jackson 抛出 UnrecognizedPropertyException
+            return false;
+        }
+    }
+
+    /**
+     * 按目标类型统计未知字段名出现的次数
+     */
+    public static final class Stats implements Serializable {
+        @Serial
+        private static final long serialVersionUID = -6914260735013519632L;
+
+        private final ConcurrentMap<Class<?>, Counter> counters = new ConcurrentHashMap<>();
+
+        private Counter counter(Class<?> type) {
+            Counter counter = counters.get(type);
+            return counter != null ? counter : counters.computeIfAbsent(type, k -> new Counter());
+        }
+
+        /**
+         * type 中出现未知属性的总次数
+         */
+        public long unknown(Class<?> type) {
+            Counter counter = counters.get(type);
+            return counter == null ? 0L : counter.total.sum();
+        }
+
+        /**
+         * type 中每个未知字段名出现的次数，按字段名排序
+         */
+        public Map<String, Long> unknownNames(Class<?> type) {
+            Map<String, Long> result = new TreeMap<>();
+            Counter counter = counters.get(type);
+            if (counter != null) {
+                counter.names.forEach((name, count) -> result.put(name, count.sum()));
+            }
+            return result;
+        }
+
+        /**
+         * 所有出现过未知属性的类型及其未知属性的总次数
+         */
+        public Map<Class<?>, Long> unknownByType() {
+            Map<Class<?>, Long> result = new LinkedHashMap<>();
+            counters.forEach((type, counter) -> result.put(type, counter.total.sum()));
+            return result;
+        }
+
+        public void reset() {
+            counters.clear();
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder builder = new StringBuilder();
+            counters.forEach((type, counter) -> builder.append(type.getSimpleName())
+                    .append(": total=").append(counter.total.sum())
+                    .append(", names=").append(unknownNames(type))
+                    .append(System.lineSeparator()));
+            return builder.toString();
+        }
+
+        private static final class Counter implements Serializable {
+            @Serial
+            private static final long serialVersionUID = 5034581197316650262L;
+
+            private final LongAdder total = new LongAdder();
+            private final ConcurrentMap<String, LongAdder> names = new ConcurrentHashMap<>();
+
+            private void record(String name) {
+                total.increment();
+                LongAdder count = names.get(name);
+                if (count == null) {
+                    if (names.size() >= MAX_NAMES_PER_CLASS) {
+                        return;
+                    }
+                    count = names.computeIfAbsent(name, k -> new LongAdder());
+                }
+                count.increment();
+            }
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package indi.mofan.serializer.custom;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.BeanSerializer;
+import com.fasterxml.jackson.databind.ser.impl.ObjectIdWriter;
+import com.fasterxml.jackson.databind.ser.std.BeanSerializerBase;
+
+import java.io.IOException;
+import java.io.Serial;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 按激活的视图预先裁剪属性列表的 BeanSerializer。
+ * <p>
+ * 默认的 BeanSerializer 在开启视图时遍历 {@code _filteredProps}，每个对象的每个带 @JsonView 的属性都要判断一次视图；
+ * 这里对每个视图只判断一次，生成只包含可见属性、且不再包装视图判断的数组（plan），之后的对象直接遍历它。
+ * <p>
+ * plan 在第一次用到时生成，此时属性已经 resolve 完成。通过 withXxx 复制出的序列化器属性可能不同，各自持有自己的 plan。
+ *
+ * @author mofan
+ * @date 2026/10/18 21:50
+ */
+public class ViewPlanBeanSerializer extends BeanSerializer {
+    @Serial
+    private static final long serialVersionUID = 1835093721605473908L;
+
+    private final ViewPlanModule.Stats stats;
+    private final ConcurrentHashMap<Class<?>, BeanPropertyWriter[]> plans = new ConcurrentHashMap<>();
+
+    public ViewPlanBeanSerializer(BeanSerializer src, ViewPlanModule.Stats stats) {
+        super(src);
+        this.stats = stats;
+    }
+
+    private ViewPlanBeanSerializer(BeanSerializerBase src, ObjectIdWriter objectIdWriter, Object filterId,
+                                   ViewPlanModule.Stats stats) {
+        super(src, objectIdWriter, filterId);
+        this.stats = stats;
+    }
+
+    private ViewPlanBeanSerializer(BeanSerializerBase src, Set<String> toIgnore, Set<String> toInclude,
+                                   ViewPlanModule.Stats stats) {
+        super(src, toIgnore, toInclude);
+        this.stats = stats;
+    }
+
+    private ViewPlanBeanSerializer(BeanSerializerBase src, BeanPropertyWriter[] properties,
+                                   BeanPropertyWriter[] filteredProperties, ViewPlanModule.Stats stats) {
+        super(src, properties, filteredProperties);
+        this.stats = stats;
+    }
+
+    @Override
+    public BeanSerializerBase withObjectIdWriter(ObjectIdWriter objectIdWriter) {
+        return new ViewPlanBeanSerializer(this, objectIdWriter, _propertyFilterId, stats);
+    }
+
+    @Override
+    public BeanSerializerBase withFilterId(Object filterId) {
+        return new ViewPlanBeanSerializer(this, _objectIdWriter, filterId, stats);
+    }
+
+    @Override
+    protected BeanSerializerBase withByNameInclusion(Set<String> toIgnore, Set<String> toInclude) {
+        return new ViewPlanBeanSerializer(this, toIgnore, toInclude, stats);
+    }
+
+    @Override
+    public JsonSerializer<?> withIgnoredProperties(Set<String> toIgnore) {
+        return new ViewPlanBeanSerializer(this, toIgnore, null, stats);
+    }
+
+    @Override
+    protected BeanSerializerBase withProperties(BeanPropertyWriter[] properties, BeanPropertyWriter[] filteredProperties) {
+        return new ViewPlanBeanSerializer(this, properties, filteredProperties, stats);
+    }
+
+    @Override
+    protected void serializeFields(Object bean, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        Class<?> view = provider.getActiveView();
+        if (view == null || _filteredProps == null) {
+            super.serializeFields(bean, gen, provider);
+            return;
+        }
+        BeanPropertyWriter[] props = plan(view);
+        int i = 0;
+        try {
+            for (int len = props.length; i < len; ++i) {
+                props[i].serializeAsField(bean, gen, provider);
+            }
+        } catch (Exception e) {
+            wrapAndThrow(provider, e, bean, props[i].getName());
+        } catch (StackOverflowError e) {
+            JsonMappingException mapping = new JsonMappingException(gen, "Infinite recursion (StackOverflowError)", e);
+            mapping.prependPath(bean, props[i].getName());
+            throw mapping;
+        }
+    }
+
+    private BeanPropertyWriter[] plan(Class<?> view) {
+        BeanPropertyWriter[] plan = plans.get(view);
+        if (plan != null) {
+            stats.hit();
+            return plan;
+        }
+        stats.miss();
+        plan = compile(view);
+        BeanPropertyWriter[] existing = plans.putIfAbsent(view, plan);
+        if (existing != null) {
+            return existing;
+        }
+        stats.planAdded();
+        return plan;
+    }
+
+    /**
+     * 与 BeanSerializerFactory#processViews 生成的 _filteredProps 判断方式一致：
+     * 没有 @JsonView 的属性是否保留已经由 DEFAULT_VIEW_INCLUSION 决定（不保留时为 null），
+     * 有 @JsonView 的属性在任一视图是激活视图的父类型时保留，并换成未包装的原始属性
+     */
+    private BeanPropertyWriter[] compile(Class<?> view) {
+        List<BeanPropertyWriter> visible = new ArrayList<>(_props.length);
+        for (int i = 0; i < _props.length; i++) {
+            BeanPropertyWriter filtered = _filteredProps[i];
+            if (filtered == null) {
+                continue;
+            }
+            Class<?>[] views = _props[i].getViews();
+            if (views == null || views.length == 0) {
+                visible.add(filtered);
+                continue;
+            }
+            for (Class<?> candidate : views) {
+                if (candidate.isAssignableFrom(view)) {
+                    visible.add(_props[i]);
+                    break;
+                }
+            }
+        }
+        return visible.toArray(new BeanPropertyWriter[0]);
+    }
+}
@@ -0,0 +1,130 @@
+package indi.mofan.serializer.custom;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanSerializer;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 将 Jackson 默认创建的 BeanSerializer 替换成 {@link ViewPlanBeanSerializer}，
+ * 对每个（Bean 类型，激活视图）只裁剪一次属性列表。
+ * <p>
+ * {@link #stats()} 统计这个模块下所有序列化器的 plan 数量；命中次数需要在每个对象序列化时累加，
+ * 只有通过 {@link #ViewPlanModule(boolean)} 开启后才统计。
+ *
+ * @author mofan
+ * @date 2026/10/18 22:00
+ */
+public class ViewPlanModule extends SimpleModule {
+    @Serial
+    private static final long serialVersionUID = -6108724253350976214L;
+
+    private final Stats stats;
+
+    public ViewPlanModule() {
+        this(false);
+    }
+
+    /**
+     * @param recordHits 是否统计 plan 的命中次数，开启后每个在激活视图下序列化的对象都会累加一次计数
+     */
+    public ViewPlanModule(boolean recordHits) {
+        super(ViewPlanModule.class.getSimpleName());
+        this.stats = new Stats(recordHits);
+        setSerializerModifier(new BeanSerializerModifier() {
+            @Serial
+            private static final long serialVersionUID = 4370651833286431029L;
+
+            @Override
+            public JsonSerializer<?> modifySerializer(SerializationConfig config,
+                                                      BeanDescription beanDesc,
+                                                      JsonSerializer<?> serializer) {
+                // 只替换默认的 BeanSerializer，其他模块自定义的子类保持原样
+                if (serializer.getClass() != BeanSerializer.class) {
+                    return serializer;
+                }
+                return new ViewPlanBeanSerializer((BeanSerializer) serializer, stats);
+            }
+        });
+    }
+
+    public Stats stats() {
+        return stats;
+    }
+
+    /**
+     * plan 缓存的统计信息。未命中和新增 plan 只在生成 plan 时记录；
+     * 命中发生在每个对象的序列化过程中，只有 recordHits 为 true 时记录
+     */
+    public static final class Stats implements Serializable {
+        @Serial
+        private static final long serialVersionUID = 2630917465932148417L;
+
+        private final boolean recordHits;
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+        private final LongAdder plans = new LongAdder();
+
+        private Stats(boolean recordHits) {
+            this.recordHits = recordHits;
+        }
+
+        void hit() {
+            if (recordHits) {
+                hits.increment();
+            }
+        }
+
+        void miss() {
+            misses.increment();
+        }
+
+        void planAdded() {
+            plans.increment();
+        }
+
+        /**
+         * 已生成的 plan 数量，即（序列化器，视图）组合的数量
+         */
+        public long plans() {
+            return plans.sum();
+        }
+
+        /**
+         * 没有开启 recordHits 时始终为 0
+         */
+        public long hits() {
+            return hits.sum();
+        }
+
+        public long misses() {
+            return misses.sum();
+        }
+
+        /**
+         * 没有开启 recordHits 时不知道命中次数，返回 NaN
+         */
+        public double hitRate() {
+            if (!recordHits) {
+                return Double.NaN;
+            }
+            long hit = hits();
+            long total = hit + misses();
+            return total == 0 ? 0D : (double) hit / total;
+        }
+
+        @Override
+        public String toString() {
+            if (!recordHits) {
+                return String.format("plans=%d, misses=%d", plans(), misses());
+            }
+            return String.format("plans=%d, hits=%d, misses=%d, hitRate=%.4f", plans(), hits(), misses(), hitRate());
+        }
+    }
+}
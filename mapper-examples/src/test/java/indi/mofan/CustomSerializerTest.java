@@ -1,9 +1,13 @@
 package indi.mofan;
 
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.json.JsonMapper;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import indi.mofan.serializer.custom.ItemDeserializer;
 import indi.mofan.serializer.custom.ItemSerializer;
+import indi.mofan.serializer.custom.OwnerInterner;
+import indi.mofan.serializer.custom.PreEncodedItemSerializer;
+import indi.mofan.serializer.custom.StreamingItemDeserializer;
 import indi.mofan.serializer.pojo.Item;
 import indi.mofan.serializer.pojo.User;
 import lombok.SneakyThrows;
@@ -11,6 +15,8 @@ import net.javacrumbs.jsonunit.assertj.JsonAssertions;
 import org.assertj.core.api.WithAssertions;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+
 /**
  * @author mofan
  * @date 2023/12/3 22:31
@@ -78,4 +84,107 @@ public class CustomSerializerTest implements WithAssertions {
                         i -> i.getOwner().getName())
                 .containsExactly(1, "theItem", 2, null);
     }
+
+    @Test
+    @SneakyThrows
+    public void testStreamingItemDeserializer() {
+        JsonMapper tree = JsonMapper.builder()
+                .addModule(new SimpleModule().addDeserializer(Item.class, new ItemDeserializer()))
+                .build();
+        // 按 token 逐个读取，不构建 JsonNode
+        JsonMapper streaming = JsonMapper.builder()
+                .addModule(new SimpleModule().addDeserializer(Item.class, new StreamingItemDeserializer()))
+                .build();
+
+        // language=JSON
+        String withUnknownFields = """
+                {
+                  "tags": ["a", {"b": [1, 2, {"c": null}]}],
+                  "itemName": 42,
+                  "extra": {"id": 100, "owner": {"id": 200}},
+                  "owner": "3",
+                  "id": 1.9
+                }
+                """;
+        // language=JSON
+        String withNullAndObject = """
+                {
+                  "id": null,
+                  "itemName": null,
+                  "owner": {"id": 2, "name": "theUser"}
+                }
+                """;
+        for (String json : List.of(DESERIALIZE_RESULT, withUnknownFields, withNullAndObject)) {
+            Item expect = tree.readValue(json, Item.class);
+            Item actual = streaming.readValue(json, Item.class);
+            assertThat(actual).usingRecursiveComparison().isEqualTo(expect);
+        }
+
+        // language=JSON
+        String array = """
+                [
+                  {"id": 1, "itemName": "first", "owner": 2},
+                  {"owner": 4, "ignored": [[], {}], "itemName": "second", "id": 3}
+                ]
+                """;
+        Item[] items = streaming.readValue(array, Item[].class);
+        assertThat(items).usingRecursiveFieldByFieldElementComparator()
+                .containsExactly(tree.readValue(array, Item[].class));
+    }
+
+    @Test
+    @SneakyThrows
+    public void testOwnerInterner() {
+        // language=JSON
+        String array = """
+                [
+                  {"id": 1, "itemName": "first", "owner": 2},
+                  {"id": 3, "itemName": "second", "owner": 4},
+                  {"id": 5, "itemName": "third", "owner": 2}
+                ]
+                """;
+        for (var deserializer : List.of(new ItemDeserializer(), new StreamingItemDeserializer())) {
+            ObjectReader reader = JsonMapper.builder()
+                    .addModule(new SimpleModule().addDeserializer(Item.class, deserializer))
+                    .build()
+                    .readerFor(Item[].class);
+
+            // 默认每个 Item 都有自己的 User
+            Item[] items = reader.readValue(array);
+            assertThat(items[0].getOwner()).isNotSameAs(items[2].getOwner());
+
+            // 启用后，同一次读取中 owner id 相同的 Item 共享同一个 User
+            ObjectReader interning = reader.withAttribute(OwnerInterner.class, true);
+            items = interning.readValue(array);
+            assertThat(items[0].getOwner()).isSameAs(items[2].getOwner());
+            assertThat(items[1].getOwner()).isNotSameAs(items[0].getOwner());
+            assertThat(items).extracting(i -> i.getOwner().getId()).containsExactly(2, 4, 2);
+
+            // 读取结束后缓存随之丢弃，下一次读取不会拿到上一次的实例
+            Item[] next = interning.readValue(array);
+            assertThat(next[0].getOwner()).isNotSameAs(items[0].getOwner());
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    public void testPreEncodedItemSerializer() {
+        JsonMapper plain = JsonMapper.builder()
+                .addModule(new SimpleModule().addSerializer(Item.class, new ItemSerializer()))
+                .build();
+        // 字段名预先编码，输出与 ItemSerializer 完全一致
+        JsonMapper preEncoded = JsonMapper.builder()
+                .addModule(new SimpleModule().addSerializer(Item.class, new PreEncodedItemSerializer()))
+                .build();
+
+        List<Item> items = List.of(
+                new Item(1, "theItem", new User(2, "theUser")),
+                new Item(3, "物品\"\n", new User(4, null)),
+                new Item(5, null, new User(6, null)));
+        for (Item item : items) {
+            assertThat(preEncoded.writeValueAsBytes(item)).isEqualTo(plain.writeValueAsBytes(item));
+            assertThat(preEncoded.writeValueAsString(item)).isEqualTo(plain.writeValueAsString(item));
+        }
+        JsonAssertions.assertThatJson(preEncoded.writeValueAsString(items.getFirst())).isEqualTo(DESERIALIZE_RESULT);
+    }
 }
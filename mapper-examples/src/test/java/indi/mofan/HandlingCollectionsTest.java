@@ -1,14 +1,37 @@
 package indi.mofan;
 
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.core.JsonParseException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
 import com.fasterxml.jackson.databind.json.JsonMapper;
 import indi.mofan.pojo.Car;
+import indi.mofan.serializer.custom.ColumnarListDeserializer;
+import indi.mofan.serializer.custom.ColumnarListModule;
+import indi.mofan.serializer.custom.ColumnarListSerializer;
+import indi.mofan.serializer.custom.ParallelArrayReader;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
 import lombok.SneakyThrows;
+import net.javacrumbs.jsonunit.assertj.JsonAssertions;
 import org.assertj.core.api.WithAssertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * @author mofan
@@ -49,4 +72,235 @@ public class HandlingCollectionsTest implements WithAssertions {
                 .extracting(Car::getColor, Car::getType)
                 .containsExactly(tuple("Black", "BMW"), tuple("Red", "FIAT"));
     }
+
+    @Test
+    @SneakyThrows
+    public void testColumnarCarList() {
+        JsonMapper mapper = JsonMapper.builder()
+                .addModule(new ColumnarListModule(Car.class))
+                .build();
+        List<Car> cars = List.of(new Car("Black", "BMW"), new Car("Red", "FIAT"),
+                new Car("Black", "FIAT"), new Car(null, "BMW"));
+
+        // 根对象为 List 时需要通过 writerFor 指定元素类型
+        ObjectWriter writer = mapper.writerFor(new TypeReference<List<Car>>() {
+        });
+        String json = writer.writeValueAsString(cars);
+        // 每一列一个字典，元素只记录字典下标
+        JsonAssertions.assertThatJson(json).isEqualTo("""
+                {
+                  "size": 4,
+                  "columns": {
+                    "color": {"dict": ["Black", "Red", null], "index": [0, 1, 0, 2]},
+                    "type": {"dict": ["BMW", "FIAT"], "index": [0, 1, 1, 0]}
+                  }
+                }
+                """);
+
+        List<Car> result = mapper.readValue(json, new TypeReference<>() {
+        });
+        assertThat(result).usingRecursiveFieldByFieldElementComparator().containsExactlyElementsOf(cars);
+
+        // 取值重复度高时，体积明显小于对象数组
+        List<Car> fleet = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            fleet.add(new Car(i % 3 == 0 ? "Black" : "Red", i % 4 == 0 ? "BMW" : "FIAT"));
+        }
+        int columnar = writer.writeValueAsBytes(fleet).length;
+        int plain = JsonMapper.builder().build().writeValueAsBytes(fleet).length;
+        assertThat(columnar * 5).isLessThan(plain);
+
+        assertThat(mapper.readValue("""
+                {"size": 0, "columns": {}}
+                """, new TypeReference<List<Car>>() {
+        })).isEmpty();
+    }
+
+    @Test
+    @SneakyThrows
+    public void testColumnarListProperty() {
+        Fleet fleet = new Fleet("north", List.of(new Car("Black", "BMW"), new Car("Black", "FIAT")));
+        JsonMapper mapper = JsonMapper.builder().build();
+
+        String json = mapper.writeValueAsString(fleet);
+        JsonAssertions.assertThatJson(json).isEqualTo("""
+                {
+                  "name": "north",
+                  "cars": {
+                    "size": 2,
+                    "columns": {
+                      "color": {"dict": ["Black"], "index": [0, 0]},
+                      "type": {"dict": ["BMW", "FIAT"], "index": [0, 1]}
+                    }
+                  }
+                }
+                """);
+        assertThat(mapper.readValue(json, Fleet.class)).usingRecursiveComparison().isEqualTo(fleet);
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    private static class Reading {
+        private String sensor;
+        @JsonFormat(shape = JsonFormat.Shape.STRING)
+        private int value;
+    }
+
+    @Test
+    @SneakyThrows
+    public void testColumnarListUsesPropertySerializers() {
+        JsonMapper mapper = JsonMapper.builder()
+                .addModule(new ColumnarListModule(Reading.class))
+                .build();
+        List<Reading> readings = List.of(new Reading("a", 1), new Reading("b", 1), new Reading("a", 2));
+        ObjectWriter writer = mapper.writerFor(new TypeReference<List<Reading>>() {
+        });
+        String json = writer.writeValueAsString(readings);
+        // 字典中的值与普通对象一样按属性上的 @JsonFormat 输出
+        JsonAssertions.assertThatJson(json).isEqualTo("""
+                {
+                  "size": 3,
+                  "columns": {
+                    "sensor": {"dict": ["a", "b"], "index": [0, 1, 0]},
+                    "value": {"dict": ["1", "2"], "index": [0, 0, 1]}
+                  }
+                }
+                """);
+        assertThat(mapper.readValue(json, new TypeReference<List<Reading>>() {
+        })).usingRecursiveFieldByFieldElementComparator().containsExactlyElementsOf(readings);
+    }
+
+    @Test
+    public void testColumnarListRejectsInvalidInput() {
+        JsonMapper mapper = JsonMapper.builder()
+                .addModule(new ColumnarListModule(Car.class))
+                .build();
+        TypeReference<List<Car>> type = new TypeReference<>() {
+        };
+        // size 来自输入，过大或为负数时不能直接用来分配
+        assertThatThrownBy(() -> mapper.readValue("""
+                {"size": 2147483647, "columns": {}}
+                """, type))
+                .isInstanceOf(MismatchedInputException.class)
+                .hasMessageContaining("has no columns");
+        assertThatThrownBy(() -> mapper.readValue("""
+                {"size": -1, "columns": {}}
+                """, type))
+                .isInstanceOf(MismatchedInputException.class)
+                .hasMessageContaining("non-negative int");
+        assertThatThrownBy(() -> mapper.readValue("""
+                {"size": 2147483647, "columns": {"color": {"dict": ["Black"], "index": [0]}}}
+                """, type))
+                .isInstanceOf(MismatchedInputException.class)
+                .hasMessageContaining("has 1 values, expected 2147483647");
+        // 下标超出字典范围
+        assertThatThrownBy(() -> mapper.readValue("""
+                {"size": 2, "columns": {"color": {"dict": ["Black"], "index": [0, 1]}}}
+                """, type))
+                .isInstanceOf(MismatchedInputException.class)
+                .hasMessageContaining("invalid dictionary index 1");
+        assertThatThrownBy(() -> mapper.readValue("""
+                {"size": 2, "columns": {"color": {"dict": ["Black"], "index": [0, -1]}}}
+                """, type))
+                .isInstanceOf(MismatchedInputException.class)
+                .hasMessageContaining("invalid dictionary index -1");
+        // 下标数量比 size 多或少
+        assertThatThrownBy(() -> mapper.readValue("""
+                {"size": 2, "columns": {"color": {"dict": ["Black"], "index": [0]}}}
+                """, type))
+                .isInstanceOf(MismatchedInputException.class)
+                .hasMessageContaining("has 1 values, expected 2");
+        assertThatThrownBy(() -> mapper.readValue("""
+                {"size": 1, "columns": {"color": {"dict": ["Black"], "index": [0, 0]}}}
+                """, type))
+                .isInstanceOf(MismatchedInputException.class)
+                .hasMessageContaining("more than 1 values");
+        // dict 必须是数组，不能把后面的 index 当成字典的内容读掉
+        for (String dict : List.of("\"Black\"", "null", "{\"index\": [0]}")) {
+            assertThatThrownBy(() -> mapper.readValue("""
+                    {"size": 1, "columns": {"color": {"dict": %s, "index": [0]}}}
+                    """.formatted(dict), type))
+                    .isInstanceOf(MismatchedInputException.class)
+                    .hasMessageContaining("Column 'color' must have a 'dict' array");
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    public void testParallelArrayReader(@TempDir Path dir) {
+        JsonMapper mapper = JsonMapper.builder().build();
+        List<Car> cars = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            // 字符串中的逗号、括号和转义的引号不能被当成元素边界
+            cars.add(new Car(i % 7 == 0 ? null : "Black, \"matte\" [" + i + "] {", i % 2 == 0 ? "BMW" : "FIAT"));
+        }
+        byte[] json = mapper.writerWithDefaultPrettyPrinter().writeValueAsBytes(cars);
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            // 块很小时会切出上百个块，结果仍然保持原来的顺序
+            ParallelArrayReader<Car> reader = new ParallelArrayReader<>(mapper.readerFor(Car.class), 1_024, pool);
+            assertThat(reader.read(json)).usingRecursiveFieldByFieldElementComparator().containsExactlyElementsOf(cars);
+
+            // 内存映射读取文件
+            Path file = Files.write(dir.resolve("cars.json"), json);
+            assertThat(reader.read(file)).usingRecursiveFieldByFieldElementComparator().containsExactlyElementsOf(cars);
+
+            // 只读取 ByteBuffer 中 position 之后的部分
+            ByteBuffer buffer = ByteBuffer.wrap(("xx" + JSON_CAR_ARRAY).getBytes(StandardCharsets.UTF_8)).position(2);
+            assertThat(reader.read(buffer)).extracting(Car::getColor, Car::getType)
+                    .containsExactly(tuple("Black", "BMW"), tuple("Red", "FIAT"));
+            assertThat(buffer.position()).isEqualTo(2);
+
+            // 扫描时每 64KB 复制一次，转义的引号正好跨过边界
+            List<Car> boundary = List.of(new Car("x".repeat(65_535 - "[{\"color\":\"".length()) + "\"],", "BMW"),
+                    new Car("Red", "FIAT"));
+            assertThat(reader.read(mapper.writeValueAsBytes(boundary)))
+                    .usingRecursiveFieldByFieldElementComparator().containsExactlyElementsOf(boundary);
+
+            assertThat(reader.read(" [ ] ".getBytes(StandardCharsets.UTF_8))).isEmpty();
+            assertThatThrownBy(() -> reader.read("{\"color\": \"Black\"}".getBytes(StandardCharsets.UTF_8)))
+                    .isInstanceOf(JsonParseException.class)
+                    .hasMessageContaining("Expected top-level JSON array");
+            assertThatThrownBy(() -> reader.read("[{\"color\": \"Black\"}".getBytes(StandardCharsets.UTF_8)))
+                    .isInstanceOf(JsonParseException.class)
+                    .hasMessageContaining("not closed");
+            // 元素内部的错误由 Jackson 报告
+            assertThatThrownBy(() -> reader.read("[{\"color\": Black}]".getBytes(StandardCharsets.UTF_8)))
+                    .isInstanceOf(JsonMappingException.class)
+                    .hasMessageContaining("Unrecognized token 'Black'");
+
+            // 在每个顶层逗号处切分，多余的逗号会切出只有空白的块
+            ParallelArrayReader<Integer> numbers = new ParallelArrayReader<>(mapper.readerFor(Integer.class), 1, pool);
+            assertThat(numbers.read("[1, 2, 3]".getBytes(StandardCharsets.UTF_8)))
+                    .containsExactly(1, 2, 3);
+            assertThatThrownBy(() -> numbers.read("[1, 2}".getBytes(StandardCharsets.UTF_8)))
+                    .isInstanceOf(JsonParseException.class)
+                    .hasMessageContaining("expected ']'");
+            assertThatThrownBy(() -> numbers.read("[1, 2, ]".getBytes(StandardCharsets.UTF_8)))
+                    .isInstanceOf(JsonParseException.class)
+                    .hasMessageContaining("trailing comma");
+            assertThatThrownBy(() -> numbers.read("[ , 1]".getBytes(StandardCharsets.UTF_8)))
+                    .isInstanceOf(JsonParseException.class)
+                    .hasMessageContaining("missing array element");
+            assertThatThrownBy(() -> numbers.read("[1, , 2]".getBytes(StandardCharsets.UTF_8)))
+                    .isInstanceOf(JsonParseException.class)
+                    .hasMessageContaining("missing array element");
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    private static class Fleet {
+        private String name;
+        @JsonSerialize(using = ColumnarListSerializer.class)
+        @JsonDeserialize(using = ColumnarListDeserializer.class)
+        private List<Car> cars;
+    }
 }
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.exc.UnrecognizedPropertyException;
 import com.fasterxml.jackson.databind.json.JsonMapper;
+import indi.mofan.serializer.custom.UnknownPropertyModule;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -11,6 +12,9 @@ import lombok.SneakyThrows;
 import org.assertj.core.api.WithAssertions;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+import java.util.Map;
+
 /**
  * @author mofan
  * @date 2023/12/7 14:59
@@ -80,4 +84,58 @@ public class UnknownJsonPropertiesTest implements WithAssertions {
         assertThat(value).extracting(MyDto::getStringValue, MyDto::getIntValue, MyDto::getBooleanValue)
                 .containsExactly("a", null, true);
     }
+
+    @Test
+    @SneakyThrows
+    public void testUnknownPropertyModule() {
+        //language=JSON
+        String targetJson = """
+                {
+                  "stringValue": "a",
+                  "intValue": 1,
+                  "booleanValue": true,
+                  "stringValue2": "something",
+                  "extra": {"nested": [1, 2.5, "x", {"deep": null}], "flag": false}
+                }
+                """;
+
+        UnknownPropertyModule module = new UnknownPropertyModule();
+        JsonMapper mapper = JsonMapper.builder()
+                .addModule(module)
+                .build();
+        // 没有关闭 FAIL_ON_UNKNOWN_PROPERTIES 时照常抛出异常，但会被统计
+        assertThatExceptionOfType(UnrecognizedPropertyException.class)
+                .isThrownBy(() -> mapper.readValue(targetJson, MyDto.class));
+        assertThat(module.stats().unknownNames(MyDto.class)).containsExactly(Map.entry("stringValue2", 1L));
+
+        // 类级别忽略未知属性时整个子树被跳过，后面的字段不受影响
+        MyDto value = mapper.readValue(targetJson, MyDtoIgnoreUnknown.class);
+        assertThat(value).extracting(MyDto::getStringValue, MyDto::getIntValue, MyDto::getBooleanValue)
+                .containsExactly("a", 1, true);
+        assertThat(module.stats().unknownNames(MyDtoIgnoreUnknown.class))
+                .containsExactly(Map.entry("extra", 1L), Map.entry("stringValue2", 1L));
+
+        JsonMapper lenient = JsonMapper.builder()
+                .addModule(module)
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .build();
+        List<MyDto> values = lenient.readerForListOf(MyDto.class).readValue("[" + targetJson + "," + targetJson + "]");
+        assertThat(values).extracting(MyDto::getStringValue).containsExactly("a", "a");
+        // 第一次抛出异常时读到 stringValue2 就结束了
+        assertThat(module.stats().unknown(MyDto.class)).isEqualTo(5);
+        assertThat(module.stats().unknownNames(MyDto.class))
+                .containsExactly(Map.entry("extra", 2L), Map.entry("stringValue2", 3L));
+        assertThat(module.stats().unknownByType()).containsOnlyKeys(MyDto.class, MyDtoIgnoreUnknown.class);
+
+        // 不同字段名的数量有上限，超出的部分只计入总数
+        module.stats().reset();
+        StringBuilder drift = new StringBuilder("{");
+        for (int i = 0; i < UnknownPropertyModule.MAX_NAMES_PER_CLASS + 10; i++) {
+            drift.append("\"field").append(i).append("\": ").append(i).append(',');
+        }
+        drift.append("\"stringValue\": \"b\"}");
+        assertThat(lenient.readValue(drift.toString(), MyDto.class).getStringValue()).isEqualTo("b");
+        assertThat(module.stats().unknown(MyDto.class)).isEqualTo(UnknownPropertyModule.MAX_NAMES_PER_CLASS + 10);
+        assertThat(module.stats().unknownNames(MyDto.class)).hasSize(UnknownPropertyModule.MAX_NAMES_PER_CLASS);
+    }
 }
@@ -1,8 +1,10 @@
 package indi.mofan.advanced;
 
 import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.BeanDescription;
 import com.fasterxml.jackson.databind.JsonSerializer;
@@ -15,6 +17,8 @@ import com.fasterxml.jackson.databind.ser.PropertyFilter;
 import com.fasterxml.jackson.databind.ser.PropertyWriter;
 import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
 import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import indi.mofan.serializer.custom.CompiledPropertyFilter;
+import indi.mofan.serializer.custom.ConditionalObjectModule;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -26,7 +30,10 @@ import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
 import java.io.Serial;
+import java.io.StringWriter;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 
 /**
  * @author mofan
@@ -88,6 +95,82 @@ public class CustomSerializeOnlyFieldsTest implements WithAssertions {
         assertThat(result).isEqualTo("{}");
     }
 
+    @Getter
+    @AllArgsConstructor
+    @JsonFilter("myFilter")
+    private static class Account {
+        private int intValue;
+        private String name;
+        private String password;
+        private String token;
+    }
+
+    @Test
+    @SneakyThrows
+    public void testCompiledPropertyFilter() {
+        // 与上面匿名的 SimpleBeanPropertyFilter 相同的规则，每个类型只在第一次序列化时筛选规则
+        PropertyFilter filter = CompiledPropertyFilter.rules()
+                .includeIf(MyDto.class, "intValue", (Integer value) -> value >= 0)
+                .includeIf(Account.class, "intValue", (Integer value) -> value >= 0)
+                .exclude(Account.class, Set.of("password", "token"))
+                .compile();
+        JsonMapper mapper = JsonMapper.builder()
+                .filterProvider(new SimpleFilterProvider().addFilter("myFilter", filter))
+                .build();
+
+        MyDto myDto = new MyDto();
+        myDto.setIntValue(-1);
+        assertThat(mapper.writeValueAsString(myDto)).isEqualTo("{}");
+        myDto.setIntValue(1);
+        assertThat(mapper.writeValueAsString(myDto)).isEqualTo("{\"intValue\":1}");
+
+        String result = mapper.writeValueAsString(List.of(
+                new Account(-1, "john", "123456", "abc"),
+                new Account(2, "tom", "654321", "def")
+        ));
+        // language=JSON
+        String expectJson = """
+                [
+                  {"name": "john"},
+                  {"intValue": 2, "name": "tom"}
+                ]
+                """;
+        JsonAssertions.assertThatJson(result).isEqualTo(expectJson);
+
+        // 不指定类型的规则对所有类型生效
+        filter = CompiledPropertyFilter.rules()
+                .exclude("name", "token")
+                .compile();
+        result = mapper.writer(new SimpleFilterProvider().addFilter("myFilter", filter))
+                .writeValueAsString(new Account(3, "adam", "000000", "ghi"));
+        JsonAssertions.assertThatJson(result).isEqualTo("""
+                {"intValue": 3, "password": "000000"}
+                """);
+    }
+
+    @Test
+    @SneakyThrows
+    public void testCompiledPropertyFilterAsElements() {
+        PropertyFilter filter = CompiledPropertyFilter.rules()
+                .includeIf(Account.class, "intValue", (Integer value) -> value >= 0)
+                .exclude(Account.class, "password")
+                .compile();
+        JsonMapper mapper = JsonMapper.builder().build();
+        SerializerProvider provider = mapper.getSerializerProviderInstance();
+        JsonSerializer<Object> serializer = provider.findValueSerializer(Account.class);
+
+        // 按数组输出的序列化器逐个元素调用过滤器，被过滤的元素写成 null，其余元素的下标不变
+        StringWriter out = new StringWriter();
+        try (JsonGenerator gen = mapper.createGenerator(out)) {
+            gen.writeStartArray();
+            for (Iterator<PropertyWriter> it = serializer.properties(); it.hasNext(); ) {
+                filter.serializeAsElement(new Account(-1, "john", "123456", "abc"), gen, provider, it.next());
+            }
+            gen.writeEndArray();
+        }
+        assertThat(out).hasToString("[null,\"john\",null,\"abc\"]");
+    }
+
     @JsonIgnoreProperties("hidden")
     private interface Hidable {
         boolean isHidden();
@@ -192,4 +275,82 @@ public class CustomSerializeOnlyFieldsTest implements WithAssertions {
                 """;
         JsonAssertions.assertThatJson(result).isEqualTo(expectJson);
     }
+
+    @Test
+    @SneakyThrows
+    public void testConditionalObjectModule() {
+        ConditionalObjectModule module = new ConditionalObjectModule()
+                .skipIf(Hidable.class, Hidable::isHidden);
+        // 不需要 NON_EMPTY，隐藏的 address 在写出字段名之前就被跳过
+        JsonMapper mapper = JsonMapper.builder()
+                .addModule(module)
+                .build();
+
+        Address ad1 = new Address("tokyo", "jp", true);
+        Address ad2 = new Address("ny", "usa", false);
+        Person p1 = new Person("john", ad1, false);
+        Person p2 = new Person("adam", ad2, false);
+        Person p3 = new Person("tom", null, false);
+        String result = mapper.writeValueAsString(List.of(p1, p2, p3));
+        //language=JSON
+        String expectJson = """
+                [
+                  {
+                    "name": "john"
+                  },
+                  {
+                    "name": "adam",
+                    "address": {
+                      "city": "ny",
+                      "country": "usa"
+                    }
+                  },
+                  {
+                    "name": "tom",
+                    "address": null
+                  }
+                ]
+                """;
+        JsonAssertions.assertThatJson(result).isEqualTo(expectJson);
+
+        ConditionalObjectModule.Stats stats = module.stats();
+        assertThat(stats.skipped(Address.class)).isEqualTo(1);
+        assertThat(stats.written(Address.class)).isEqualTo(1);
+        // 集合元素不受影响
+        assertThat(stats.skipped(Person.class)).isZero();
+    }
+
+    @Getter
+    @AllArgsConstructor
+    @JsonFormat(shape = JsonFormat.Shape.ARRAY)
+    @JsonPropertyOrder({"name", "address"})
+    private static class PersonRow {
+        private String name;
+        private Address address;
+    }
+
+    @Test
+    @SneakyThrows
+    public void testConditionalObjectModuleWithArrayShape() {
+        ConditionalObjectModule module = new ConditionalObjectModule()
+                .skipIf(Hidable.class, Hidable::isHidden);
+        JsonMapper mapper = JsonMapper.builder()
+                .addModule(module)
+                .build();
+
+        String result = mapper.writeValueAsString(List.of(
+                new PersonRow("john", new Address("tokyo", "jp", true)),
+                new PersonRow("adam", new Address("ny", "usa", false))));
+        // 按数组输出时跳过的属性写成 null，后面的元素位置不变
+        JsonAssertions.assertThatJson(result).isEqualTo("""
+                [
+                  ["john", null],
+                  ["adam", {"city": "ny", "country": "usa"}]
+                ]
+                """);
+
+        ConditionalObjectModule.Stats stats = module.stats();
+        assertThat(stats.skipped(Address.class)).isEqualTo(1);
+        assertThat(stats.written(Address.class)).isEqualTo(1);
+    }
 }
@@ -11,6 +11,7 @@ import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
 import com.fasterxml.jackson.databind.ser.BeanSerializerFactory;
 import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
 import com.fasterxml.jackson.databind.ser.SerializerFactory;
+import indi.mofan.serializer.custom.ViewPlanModule;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -124,6 +125,75 @@ public class JsonViewTest implements WithAssertions {
         JsonAssertions.assertThatJson(result).isEqualTo(expectJson);
     }
 
+    @Test
+    @SneakyThrows
+    public void testViewPlanModule() {
+        // 开启命中次数的统计
+        ViewPlanModule module = new ViewPlanModule(true);
+        JsonMapper mapper = JsonMapper.builder()
+                .addModule(module)
+                .build();
+        List<Item> items = List.of(new Item(1, "book", "John"), new Item(2, "pen", "Jane"));
+
+        String result = mapper.writerWithView(Views.Public.class)
+                .writeValueAsString(items);
+        // language=JSON
+        String expectJson = """
+                [
+                  {"id": 1, "itemName": "book"},
+                  {"id": 2, "itemName": "pen"}
+                ]
+                """;
+        JsonAssertions.assertThatJson(result).isEqualTo(expectJson);
+
+        result = mapper.writerWithView(Views.Internal.class)
+                .writeValueAsString(items);
+        // language=JSON
+        expectJson = """
+                [
+                  {"id": 1, "itemName": "book", "ownerName": "John"},
+                  {"id": 2, "itemName": "pen", "ownerName": "Jane"}
+                ]
+                """;
+        JsonAssertions.assertThatJson(result).isEqualTo(expectJson);
+
+        // 两个视图各生成一次 plan，之后的对象都命中
+        mapper.writerWithView(Views.Public.class).writeValueAsString(items);
+        ViewPlanModule.Stats stats = module.stats();
+        assertThat(stats.plans()).isEqualTo(2);
+        assertThat(stats.misses()).isEqualTo(2);
+        assertThat(stats.hits()).isEqualTo(4);
+        assertThat(stats.hitRate()).isEqualTo(4D / 6);
+
+        // 未指定视图时不使用 plan
+        result = mapper.writeValueAsString(items.get(0));
+        JsonAssertions.assertThatJson(result).isEqualTo("""
+                {"id": 1, "itemName": "book", "ownerName": "John"}
+                """);
+        assertThat(stats.hits() + stats.misses()).isEqualTo(6);
+
+        // 默认只在生成 plan 时统计，序列化每个对象时不再累加计数
+        ViewPlanModule quiet = new ViewPlanModule();
+        JsonMapper.builder().addModule(quiet).build()
+                .writerWithView(Views.Public.class).writeValueAsString(items);
+        assertThat(quiet.stats().plans()).isEqualTo(1);
+        assertThat(quiet.stats().misses()).isEqualTo(1);
+        assertThat(quiet.stats().hits()).isZero();
+        assertThat(quiet.stats().hitRate()).isNaN();
+        assertThat(quiet.stats()).hasToString("plans=1, misses=1");
+
+        // 没有 @JsonView 的字段仍由 DEFAULT_VIEW_INCLUSION 决定
+        mapper = JsonMapper.builder()
+                .addModule(new ViewPlanModule())
+                .disable(MapperFeature.DEFAULT_VIEW_INCLUSION)
+                .build();
+        result = mapper.writerWithView(Views.Public.class)
+                .writeValueAsString(new User(1, "John"));
+        JsonAssertions.assertThatJson(result).isEqualTo("""
+                {"name": "John"}
+                """);
+    }
+
     @Test
     @SneakyThrows
     public void testDeserializeUsingJsonViews() {
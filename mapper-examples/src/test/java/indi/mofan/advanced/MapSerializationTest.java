@@ -7,13 +7,19 @@ import com.fasterxml.jackson.annotation.JsonValue;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.KeyDeserializer;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.databind.ser.std.MapSerializer;
+import indi.mofan.serializer.custom.CachingKeyModule;
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -26,9 +32,12 @@ import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
 import java.io.StringWriter;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * @author mofan
@@ -191,6 +200,135 @@ public class MapSerializationTest implements WithAssertions {
                 .containsEntry(new MyPair("Abbott", "Costello"), new MyPair("Comedy", "1940s"));
     }
 
+    /**
+     * MyPairSerializer 写出的 key 会带上 JSON 字符串的引号，这里直接使用 @JsonValue 的结果
+     */
+    private static class CountingMyPairSerializer extends JsonSerializer<MyPair> {
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public void serialize(MyPair value, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+            count.incrementAndGet();
+            gen.writeFieldName(value.toString());
+        }
+    }
+
+    private static class CountingMyPairDeserializer extends MyPairDeserializer {
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public MyPair deserializeKey(String key, DeserializationContext context) {
+            count.incrementAndGet();
+            return super.deserializeKey(key, context);
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    public void testCachingKeyModule() {
+        CountingMyPairSerializer serializer = new CountingMyPairSerializer();
+        CountingMyPairDeserializer deserializer = new CountingMyPairDeserializer();
+        JsonMapper mapper = JsonMapper.builder()
+                .addModule(new SimpleModule()
+                        .addKeySerializer(MyPair.class, serializer)
+                        .addKeyDeserializer(MyPair.class, deserializer))
+                // 缓存的 key 不能再被修改
+                .addModule(new CachingKeyModule(128, MyPair.class))
+                .build();
+
+        Map<String, Map<MyPair, String>> byDecade = new LinkedHashMap<>();
+        for (String decade : List.of("1940s", "1950s", "1960s")) {
+            Map<MyPair, String> duos = new LinkedHashMap<>();
+            duos.put(new MyPair("Abbott", "Costello"), "Comedy");
+            duos.put(new MyPair("Laurel", "Hardy"), "Slapstick");
+            byDecade.put(decade, duos);
+        }
+
+        String result = mapper.writeValueAsString(byDecade);
+        // language=JSON
+        String expectJson = """
+                {
+                  "1940s": {"Abbott and Costello": "Comedy", "Laurel and Hardy": "Slapstick"},
+                  "1950s": {"Abbott and Costello": "Comedy", "Laurel and Hardy": "Slapstick"},
+                  "1960s": {"Abbott and Costello": "Comedy", "Laurel and Hardy": "Slapstick"}
+                }
+                """;
+        JsonAssertions.assertThatJson(result).isEqualTo(expectJson);
+        // 6 个 key 只格式化了 2 次
+        assertThat(serializer.count).hasValue(2);
+
+        Map<String, Map<MyPair, String>> value = mapper.readValue(result, new TypeReference<>() {
+        });
+        assertThat(value).isEqualTo(byDecade);
+        assertThat(deserializer.count).hasValue(2);
+        // 相同的字段名得到同一个 key 实例
+        assertThat(value.get("1940s").keySet().iterator().next())
+                .isSameAs(value.get("1960s").keySet().iterator().next());
+
+        // 缓存在 mapper 内共享，再次序列化不会调用原本的序列化器
+        mapper.writeValueAsString(byDecade);
+        assertThat(serializer.count).hasValue(2);
+    }
+
+    @Test
+    @SneakyThrows
+    public void testCachingKeyModuleFollowsWriterConfig() {
+        JsonMapper mapper = JsonMapper.builder()
+                .addModule(new CachingKeyModule(128, Date.class))
+                .build();
+        Map<Date, String> events = Map.of(new Date(0L), "epoch");
+
+        // 同一个 mapper 的不同 ObjectWriter 不会读到对方缓存的字段名
+        for (int i = 0; i < 2; i++) {
+            JsonAssertions.assertThatJson(mapper.writeValueAsString(events))
+                    .isEqualTo("{\"1970-01-01T00:00:00.000+00:00\": \"epoch\"}");
+            JsonAssertions.assertThatJson(mapper.writer()
+                            .with(SerializationFeature.WRITE_DATE_KEYS_AS_TIMESTAMPS)
+                            .writeValueAsString(events))
+                    .isEqualTo("{\"0\": \"epoch\"}");
+        }
+
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new CachingKeyModule(0, Date.class))
+                .withMessageContaining("maxEntries");
+    }
+
+    @Test
+    @SneakyThrows
+    public void testCachingKeyModuleSharedAcrossWriters() {
+        CountingMyPairSerializer serializer = new CountingMyPairSerializer();
+        CountingMyPairDeserializer deserializer = new CountingMyPairDeserializer();
+        JsonMapper mapper = JsonMapper.builder()
+                .addModule(new SimpleModule()
+                        .addKeySerializer(MyPair.class, serializer)
+                        .addKeyDeserializer(MyPair.class, deserializer))
+                .addModule(new CachingKeyModule(128, MyPair.class))
+                .build();
+        Map<MyPair, String> duos = new LinkedHashMap<>();
+        duos.put(new MyPair("Abbott", "Costello"), "Comedy");
+        duos.put(new MyPair("Laurel", "Hardy"), "Slapstick");
+
+        // 每个 writer / reader 的配置实例不同，但不影响 key 的写法，交替使用时共用同一个缓存
+        List<ObjectWriter> writers = List.of(
+                mapper.writer().with(SerializationFeature.INDENT_OUTPUT),
+                mapper.writer().withAttribute("source", "test"));
+        TypeReference<Map<MyPair, String>> type = new TypeReference<>() {
+        };
+        List<ObjectReader> readers = List.of(
+                mapper.readerFor(type),
+                mapper.readerFor(type).with(DeserializationFeature.FAIL_ON_TRAILING_TOKENS));
+        for (int i = 0; i < 3; i++) {
+            for (ObjectWriter writer : writers) {
+                String json = writer.writeValueAsString(duos);
+                for (ObjectReader reader : readers) {
+                    assertThat(reader.<Map<MyPair, String>>readValue(json)).isEqualTo(duos);
+                }
+            }
+        }
+        assertThat(serializer.count).hasValue(2);
+        assertThat(deserializer.count).hasValue(2);
+    }
+
     private static class Fruit {
         public String variety;
 
@@ -1,8 +1,10 @@
 package indi.mofan.advanced;
 
+import com.fasterxml.jackson.annotation.JsonAnyGetter;
 import com.fasterxml.jackson.annotation.JsonAnySetter;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.json.JsonMapper;
+import indi.mofan.pojo.PropertyBag;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.SneakyThrows;
@@ -99,4 +101,85 @@ public class MappingDynamicJsonObjectTest implements WithAssertions {
         assertThat(product.getName()).isEqualTo("Pear yPhone 72");
         assertThat(product.getDetails().get("audioConnector")).isEqualTo("none");
     }
+
+    @Getter
+    @Setter
+    static class ProductWithPropertyBag {
+        String name;
+        String category;
+
+        @JsonAnySetter
+        @JsonAnyGetter
+        PropertyBag details = new PropertyBag();
+    }
+
+    @Test
+    @SneakyThrows
+    public void testPropertyBag() {
+        // language=JSON
+        String flattenJsonObject = """
+                {
+                  "name": "Pear yPhone 72",
+                  "category": "cellphone",
+                  "displayAspectRatio": "97:3",
+                  "audioConnector": "none",
+                  "weight": 180
+                }
+                """;
+        ProductWithPropertyBag product = MAPPER.readValue(flattenJsonObject, ProductWithPropertyBag.class);
+
+        assertThat(product.getName()).isEqualTo("Pear yPhone 72");
+        assertThat(product.getDetails())
+                .containsExactly(entry("displayAspectRatio", "97:3"), entry("audioConnector", "none"), entry("weight", 180));
+
+        // 同名的属性在不同对象间共享同一个字符串
+        ProductWithPropertyBag other = MAPPER.readValue(flattenJsonObject, ProductWithPropertyBag.class);
+        assertThat(other.getDetails().keySet().iterator().next())
+                .isSameAs(product.getDetails().keySet().iterator().next());
+
+        // 按插入顺序平铺输出
+        String result = MAPPER.writeValueAsString(product);
+        assertThat(result).isEqualTo("""
+                {"name":"Pear yPhone 72","category":"cellphone","displayAspectRatio":"97:3","audioConnector":"none","weight":180}""");
+
+        PropertyBag details = product.getDetails();
+        details.put("audioConnector", "3.5mm");
+        details.remove("displayAspectRatio");
+        assertThat(details).containsExactly(entry("audioConnector", "3.5mm"), entry("weight", 180))
+                .isEqualTo(Map.of("audioConnector", "3.5mm", "weight", 180));
+    }
+
+    @Test
+    @SneakyThrows
+    public void testPropertyBagWithManyProperties() {
+        int count = 50_000;
+        StringBuilder json = new StringBuilder("{\"name\":\"Pear yPhone 72\"");
+        for (int i = 0; i < count; i++) {
+            json.append(",\"key").append(i).append("\":").append(i);
+        }
+        json.append('}');
+
+        // 属性较多时按索引查找，读取大量动态属性不会退化成 O(N²)
+        ProductWithPropertyBag product = MAPPER.readValue(json.toString(), ProductWithPropertyBag.class);
+        PropertyBag details = product.getDetails();
+        assertThat(details).hasSize(count)
+                .containsEntry("key0", 0)
+                .containsEntry("key" + (count - 1), count - 1)
+                .doesNotContainKey("key" + count);
+        assertThat(details.keySet().iterator().next()).isEqualTo("key0");
+
+        // 删除后下标变化，索引重建后依然正确
+        assertThat(details.remove("key0")).isEqualTo(0);
+        assertThat(details.put("key1", -1)).isEqualTo(1);
+        assertThat(details.put("key" + count, count)).isNull();
+        assertThat(details).hasSize(count)
+                .doesNotContainKey("key0")
+                .containsEntry("key1", -1)
+                .containsEntry("key" + count, count);
+        assertThat(details.keySet().iterator().next()).isEqualTo("key1");
+
+        details.clear();
+        assertThat(details).isEmpty();
+        assertThat(details.get("key1")).isNull();
+    }
 }
@@ -3,11 +3,14 @@ package indi.mofan.advanced;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
 import com.fasterxml.jackson.databind.json.JsonMapper;
 import com.fasterxml.jackson.databind.module.SimpleModule;
+import indi.mofan.serializer.custom.JsonPointerModule;
+import indi.mofan.serializer.custom.JsonPointerPath;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.SneakyThrows;
@@ -20,6 +23,7 @@ import java.util.Collections;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 /**
  * @author mofan
@@ -133,4 +137,106 @@ public class MappingNestedValuesTest {
         assertThat(product).extracting(Product::getName, Product::getBrandName, Product::getOwnerName)
                 .containsExactly("The Best Product", "ACME Products", "Ultimate Corp, Inc.");
     }
+
+    @Getter
+    @Setter
+    private static class PointerProduct {
+        private String id;
+        private String name;
+        @JsonPointerPath("/brand/name")
+        private String brandName;
+        @JsonPointerPath("/brand/owner/name")
+        private String ownerName;
+        @JsonPointerPath("/offers/1/price")
+        private double secondPrice;
+    }
+
+    @Test
+    @SneakyThrows
+    public void testJsonPointerPath() {
+        JsonMapper mapper = JsonMapper.builder()
+                .addModule(new JsonPointerModule())
+                .build();
+
+        PointerProduct product = mapper.readValue(SOURCE_JSON, PointerProduct.class);
+        assertThat(product).extracting(PointerProduct::getId, PointerProduct::getName,
+                        PointerProduct::getBrandName, PointerProduct::getOwnerName)
+                .containsExactly("957c43f2-fa2e-42f9-bf75-6e3d5bb6960a", "The Best Product",
+                        "ACME Products", "Ultimate Corp, Inc.");
+
+        // language=JSON
+        String thirdPartyJson = """
+                {
+                  "meta": {"source": "partner", "tags": ["a", {"b": [1, 2, {"c": null}]}]},
+                  "brand": {
+                    "logo": {"url": "https://example.com/logo.png", "size": [64, 64]},
+                    "owner": {"name": "Ultimate Corp, Inc.", "address": {"city": "Nowhere"}},
+                    "name": "ACME Products"
+                  },
+                  "offers": [
+                    {"price": 9.99, "seller": {"name": "first"}},
+                    {"price": 19.99, "seller": {"name": "second"}}
+                  ],
+                  "name": "The Best Product"
+                }
+                """;
+        // 无关的子树在 token 层面跳过，字段顺序也不影响
+        product = mapper.readValue(thirdPartyJson, PointerProduct.class);
+        assertThat(product).extracting(PointerProduct::getId, PointerProduct::getName,
+                        PointerProduct::getBrandName, PointerProduct::getOwnerName, PointerProduct::getSecondPrice)
+                .containsExactly(null, "The Best Product", "ACME Products", "Ultimate Corp, Inc.", 19.99);
+    }
+
+    @Test
+    @SneakyThrows
+    public void testJsonPointerPathForUpdating() {
+        JsonMapper mapper = JsonMapper.builder()
+                .addModule(new JsonPointerModule())
+                .build();
+        PointerProduct product = new PointerProduct();
+        product.setId("local");
+        product.setSecondPrice(1.0);
+
+        // 只覆盖输入中出现的路径
+        PointerProduct updated = mapper.readerForUpdating(product).readValue("""
+                {"name": "The Best Product", "brand": {"name": "ACME Products"}}
+                """);
+        assertThat(updated).isSameAs(product);
+        assertThat(product).extracting(PointerProduct::getId, PointerProduct::getName,
+                        PointerProduct::getBrandName, PointerProduct::getOwnerName, PointerProduct::getSecondPrice)
+                .containsExactly("local", "The Best Product", "ACME Products", null, 1.0);
+    }
+
+    @Getter
+    @Setter
+    private static class PrefixConflict {
+        @JsonPointerPath("/brand")
+        private String brand;
+        @JsonPointerPath("/brand/name")
+        private String brandName;
+    }
+
+    @Getter
+    @Setter
+    private static class DuplicatePointer {
+        private String name;
+        @JsonPointerPath("/name")
+        private String title;
+    }
+
+    @Test
+    public void testJsonPointerPathConflicts() {
+        JsonMapper mapper = JsonMapper.builder()
+                .addModule(new JsonPointerModule())
+                .build();
+        // 与空路径一样，在创建反序列化器时报错
+        assertThatThrownBy(() -> mapper.readValue("{}", PrefixConflict.class))
+                .isInstanceOf(JsonMappingException.class)
+                .hasMessageContaining("'brand' and 'brandName'")
+                .hasMessageContaining("/brand is a prefix of /brand/name");
+        assertThatThrownBy(() -> mapper.readValue("{}", DuplicatePointer.class))
+                .isInstanceOf(JsonMappingException.class)
+                .hasMessageContaining("'name' and 'title'")
+                .hasMessageContaining("both map to /name");
+    }
 }
@@ -6,11 +6,17 @@ import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
 import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.fasterxml.jackson.databind.json.JsonMapper;
 import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import indi.mofan.serializer.custom.JsonPackedBooleans;
+import indi.mofan.serializer.custom.PackedBooleansModule;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -237,4 +243,157 @@ public class SerializeBooleansAsIntegersTest implements WithAssertions {
         assertThat(game).extracting(Game::getPaused, Game::getOver)
                 .containsExactly(true, false);
     }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @JsonPackedBooleans
+    private static class GameWithPackedFlags {
+        private Long id;
+        private String name;
+        private Boolean paused;
+        private Boolean over;
+        private boolean ranked;
+        private boolean spectators;
+
+        public GameWithPackedFlags(Long id, String name) {
+            this.id = id;
+            this.name = name;
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    public void testPackedBooleans() {
+        GameWithPackedFlags game = new GameWithPackedFlags(1L, "My Game");
+        game.setPaused(true);
+        game.setOver(false);
+        game.setRanked(true);
+
+        JsonMapper mapper = JsonMapper.builder()
+                .addModule(new PackedBooleansModule())
+                .build();
+        String result = mapper.writeValueAsString(game);
+        // language=JSON
+        String expectJson = """
+                {
+                  "id": 1,
+                  "name": "My Game",
+                  "flags": 5
+                }
+                """;
+        // 按属性顺序，paused 为第 0 位，ranked 为第 2 位
+        JsonAssertions.assertThatJson(result).isEqualTo(expectJson);
+
+        GameWithPackedFlags value = mapper.readValue(result, GameWithPackedFlags.class);
+        assertThat(value).usingRecursiveComparison().isEqualTo(game);
+
+        // 依旧可以读取逐个字段的旧格式
+        // language=JSON
+        String legacyJson = """
+                {
+                  "id": 1,
+                  "name": "My Game",
+                  "paused": 1,
+                  "over": 0,
+                  "ranked": true,
+                  "spectators": false
+                }
+                """;
+        value = mapper.readValue(legacyJson, GameWithPackedFlags.class);
+        assertThat(value).usingRecursiveComparison().isEqualTo(game);
+
+        // Smile 中同样是一个整数
+        SmileMapper smileMapper = SmileMapper.builder()
+                .addModule(new PackedBooleansModule())
+                .build();
+        byte[] smile = smileMapper.writeValueAsBytes(game);
+        assertThat(smileMapper.readValue(smile, GameWithPackedFlags.class))
+                .usingRecursiveComparison()
+                .isEqualTo(game);
+        assertThat(smile.length).isLessThan(SmileMapper.builder().build().writeValueAsBytes(game).length);
+    }
+
+    @Test
+    @SneakyThrows
+    public void testPackedBooleansAfterMapperCopy() {
+        GameWithPackedFlags game = new GameWithPackedFlags(1L, "My Game");
+        game.setPaused(true);
+        game.setOver(false);
+        game.setRanked(true);
+
+        JsonMapper mapper = JsonMapper.builder()
+                .addModule(new PackedBooleansModule())
+                .build();
+        // 复制出的 mapper 不会重新注册模块，位顺序按复制后的配置计算
+        ObjectMapper copy = mapper.copy().setPropertyNamingStrategy(PropertyNamingStrategies.UPPER_CAMEL_CASE);
+        String result = copy.writeValueAsString(game);
+        JsonAssertions.assertThatJson(result).isEqualTo("""
+                {"Id": 1, "Name": "My Game", "flags": 5}
+                """);
+        assertThat(copy.readValue(result, GameWithPackedFlags.class))
+                .usingRecursiveComparison()
+                .isEqualTo(game);
+        JsonAssertions.assertThatJson(mapper.writeValueAsString(game)).isEqualTo("""
+                {"id": 1, "name": "My Game", "flags": 5}
+                """);
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @JsonPackedBooleans
+    private static class Match {
+        private int score;
+        /**
+         * 只能写入的属性，序列化时不存在
+         */
+        @Getter(AccessLevel.NONE)
+        private boolean audited;
+        private boolean paused;
+        private boolean ranked;
+
+        /**
+         * 只能读取的属性，反序列化时不存在
+         */
+        public boolean isLeading() {
+            return score > 0;
+        }
+
+        public boolean wasAudited() {
+            return audited;
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    public void testPackedBooleansWithOneSidedProperties() {
+        Match match = new Match();
+        match.setScore(3);
+        match.setAudited(true);
+        match.setRanked(true);
+
+        JsonMapper mapper = JsonMapper.builder()
+                .addModule(new PackedBooleansModule())
+                .build();
+        String result = mapper.writeValueAsString(match);
+        // 两侧使用同一个位顺序：paused、ranked、leading，最后是只能写入的 audited
+        JsonAssertions.assertThatJson(result).isEqualTo("""
+                {"score": 3, "flags": 6}
+                """);
+
+        Match value = mapper.readValue(result, Match.class);
+        assertThat(value.wasAudited()).isFalse();
+        assertThat(value.isPaused()).isFalse();
+        assertThat(value.isRanked()).isTrue();
+
+        // 只写属性的位同样可以读取
+        value = mapper.readValue("""
+                {"score": 0, "flags": 9}
+                """, Match.class);
+        assertThat(value.wasAudited()).isTrue();
+        assertThat(value.isPaused()).isTrue();
+        assertThat(value.isRanked()).isFalse();
+        assertThat(value.isLeading()).isFalse();
+    }
 }
@@ -13,8 +13,10 @@ import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
 import com.fasterxml.jackson.databind.json.JsonMapper;
 import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import indi.mofan.serializer.custom.PerfectHashEnumModule;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -428,4 +430,59 @@ public class SerializeEnumsTest implements WithAssertions {
         // 默认都是将枚举按 name 进行序列化，不会序列化成对象
         JsonAssertions.assertThatJson(result).isEqualTo(expectJson);
     }
+
+    @Test
+    @SneakyThrows
+    public void testPerfectHashEnumModule() {
+        JsonMapper mapper = JsonMapper.builder()
+                .addModule(new PerfectHashEnumModule())
+                .build();
+
+        // name、@JsonValue、@JsonProperty 均从预先生成的哈希表中直接按字符查找
+        assertThat(mapper.readValue("""
+                {"distance": "KILOMETER"}""", City.class).getDistance())
+                .isEqualTo(DistanceEnumSimple.KILOMETER);
+        assertThat(mapper.readValue("""
+                {"distance": "1609.34"}""", CityWithValue.class).getDistance())
+                .isEqualTo(DistanceEnumWithValue.MILE);
+        assertThat(mapper.readValue("""
+                {"distance": "distance-in-miles"}""", CityWithJsonPropertyEnum.class).getDistance())
+                .isEqualTo(DistanceWithJsonProperty.MILE);
+
+        // 默认区分大小写，查不到的值交给原本的 EnumDeserializer 处理，异常与不使用模块时一致
+        assertThatExceptionOfType(InvalidFormatException.class)
+                .isThrownBy(() -> mapper.readValue("""
+                        {"distance": "KiLoMeTeR"}""", City.class))
+                .withMessageContaining("not one of the values accepted for Enum class");
+        // 数字下标等非字符串输入同样交给原本的实现
+        assertThat(mapper.readValue("""
+                {"distance": 1}""", City.class).getDistance())
+                .isEqualTo(DistanceEnumSimple.MILE);
+
+        JsonMapper caseInsensitive = JsonMapper.builder()
+                .addModule(new PerfectHashEnumModule())
+                .enable(MapperFeature.ACCEPT_CASE_INSENSITIVE_ENUMS)
+                .build();
+        assertThat(caseInsensitive.readValue("""
+                {"distance": "KiLoMeTeR"}""", City.class).getDistance())
+                .isEqualTo(DistanceEnumSimple.KILOMETER);
+        assertThat(caseInsensitive.readValue("""
+                {"distance": "Distance-In-KM"}""", CityWithJsonPropertyEnum.class).getDistance())
+                .isEqualTo(DistanceWithJsonProperty.KILOMETER);
+
+        // @JsonCreator 和自定义反序列化器不受影响
+        // language=JSON
+        String objectJson = """
+                {
+                  "distance": {
+                    "unit": "miles",
+                    "meters": 1609.34
+                  }
+                }
+                """;
+        assertThat(mapper.readValue(objectJson, CityWithJsonCreatorEnum.class).getDistance())
+                .isEqualTo(DistanceEnumWithJsonCreator.MILE);
+        assertThat(mapper.readValue(objectJson, CityWithCustomDeserializerEnum.class).getDistance())
+                .isEqualTo(DistanceWithCustomDeserializer.MILE);
+    }
 }
@@ -1,11 +1,20 @@
 package indi.mofan.advanced;
 
+import com.fasterxml.jackson.core.exc.InputCoercionException;
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
 import com.fasterxml.jackson.databind.json.JsonMapper;
 import com.fasterxml.jackson.databind.type.CollectionType;
+import indi.mofan.pojo.DoubleList;
+import indi.mofan.pojo.IntList;
+import indi.mofan.pojo.LongSet;
+import indi.mofan.serializer.custom.PrimitiveCollectionsModule;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
 import lombok.SneakyThrows;
 import net.javacrumbs.jsonunit.assertj.JsonAssertions;
 import org.assertj.core.api.WithAssertions;
@@ -102,4 +111,64 @@ public class Unmarshall2CollectionTest implements WithAssertions {
         asList = mapper.readValue(result, javaType);
         assertThat(asList).element(0).isInstanceOf(MyDto.class);
     }
+
+    @Getter
+    @Setter
+    private static class Telemetry {
+        private IntList counts;
+        private LongSet ids;
+        private DoubleList values;
+    }
+
+    @Test
+    @SneakyThrows
+    public void testPrimitiveCollections() {
+        JsonMapper mapper = JsonMapper.builder()
+                .addModule(new PrimitiveCollectionsModule())
+                .build();
+        // language=JSON
+        String json = """
+                {
+                  "counts": [3, 1, 2, "4", null],
+                  "ids": [10000000000, 7, 10000000000, 7, 8],
+                  "values": [0.5, 2, -1.25e3]
+                }
+                """;
+        Telemetry telemetry = mapper.readValue(json, Telemetry.class);
+        // 可以转换的字符串和 null 按 int[] 的规则处理
+        assertThat(telemetry.getCounts().toIntArray()).containsExactly(3, 1, 2, 4, 0);
+        // Set 保留第一次出现的顺序
+        assertThat(telemetry.getIds().toLongArray()).containsExactly(10000000000L, 7L, 8L);
+        assertThat(telemetry.getValues().toDoubleArray()).containsExactly(0.5, 2.0, -1250.0);
+        // 同时也是普通的 List/Set
+        assertThat(telemetry.getCounts()).containsExactly(3, 1, 2, 4, 0);
+        assertThat(telemetry.getIds()).contains(7L).doesNotContain(9L);
+
+        // language=JSON
+        String expectJson = """
+                {
+                  "counts": [3, 1, 2, 4, 0],
+                  "ids": [10000000000, 7, 8],
+                  "values": [0.5, 2.0, -1250.0]
+                }
+                """;
+        JsonAssertions.assertThatJson(mapper.writeValueAsString(telemetry)).isEqualTo(expectJson);
+
+        // 作为根对象读取
+        IntList root = mapper.readValue("[1, 2, 3]", IntList.class);
+        assertThat(root.toIntArray()).containsExactly(1, 2, 3);
+        assertThat(mapper.readValue("[]", IntList.class)).isEmpty();
+
+        // 超出 int 范围、无法转换的元素以及非数组都会报错
+        assertThatThrownBy(() -> mapper.readValue("[10000000000]", IntList.class))
+                .isInstanceOf(InputCoercionException.class);
+        assertThatThrownBy(() -> mapper.readValue("[\"a\"]", DoubleList.class))
+                .isInstanceOf(InvalidFormatException.class);
+        assertThatThrownBy(() -> mapper.readValue("1", IntList.class))
+                .isInstanceOf(MismatchedInputException.class);
+        IntList single = mapper.readerFor(IntList.class)
+                .with(DeserializationFeature.ACCEPT_SINGLE_VALUE_AS_ARRAY)
+                .readValue("1");
+        assertThat(single.toIntArray()).containsExactly(1);
+    }
 }